@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.concurrency;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1>Batched FX Thread dispatcher</h1>
+ * JFXDispatcher queues tasks submitted from any thread and runs them on the
+ * FX Application thread, draining the queue once per pulse instead of posting
+ * a {@link Platform#runLater(Runnable)} per task.
+ * <p>
+ * Each drain stops once its time budget is consumed, the remaining tasks are
+ * run on the next pulse. Tasks dispatched with a key are coalesced: only the
+ * latest task of a key runs, at the queue position of the first pending one.
+ * <p>
+ * The queue is lock-free, and the dispatcher exposes its queue depth and
+ * drain metrics.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JFXDispatcher {
+
+    private static final JFXDispatcher DEFAULT = new JFXDispatcher(Duration.millis(8));
+
+    private final long budgetNanos;
+
+    private final ConcurrentLinkedQueue<Task> queue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<Object, Runnable> keyedTasks = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private volatile long lastDrainDuration = 0;
+    private volatile long lastDrainLatency = 0;
+    private volatile long maxDrainLatency = 0;
+    private volatile int lastDrainCount = 0;
+
+    private final AnimationTimer pulseTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            drain();
+        }
+    };
+
+    /**
+     * creates a dispatcher with a specified drain time budget per pulse
+     *
+     * @param budget the maximum time spent running tasks per pulse
+     */
+    public JFXDispatcher(Duration budget) {
+        this.budgetNanos = (long) (budget.toMillis() * 1_000_000);
+    }
+
+    /**
+     * @return the shared dispatcher, with a drain budget of 8ms per pulse
+     */
+    public static JFXDispatcher getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * queues a task to be run on the FX Application thread
+     *
+     * @param task to be run
+     */
+    public void dispatch(Runnable task) {
+        queue.add(new Task(null, task, System.nanoTime()));
+        queueDepth.incrementAndGet();
+        schedule();
+    }
+
+    /**
+     * queues a task to be run on the FX Application thread, if a task of the same key
+     * is still pending it's replaced by the specified one
+     *
+     * @param key  used to coalesce tasks
+     * @param task to be run
+     */
+    public void dispatch(Object key, Runnable task) {
+        if (keyedTasks.put(key, task) == null) {
+            queue.add(new Task(key, null, System.nanoTime()));
+            queueDepth.incrementAndGet();
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            JFXUtilities.runInFX(pulseTimer::start);
+        }
+    }
+
+    private void drain() {
+        final long start = System.nanoTime();
+        int count = 0;
+        long latency = 0;
+        Task task;
+        while ((task = queue.poll()) != null) {
+            queueDepth.decrementAndGet();
+            final Runnable runnable = task.key == null ? task.runnable : keyedTasks.remove(task.key);
+            latency = Math.max(latency, start - task.enqueueTime);
+            if (runnable != null) {
+                try {
+                    runnable.run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+                count++;
+            }
+            if (System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+        }
+        lastDrainDuration = System.nanoTime() - start;
+        lastDrainCount = count;
+        lastDrainLatency = latency;
+        if (latency > maxDrainLatency) {
+            maxDrainLatency = latency;
+        }
+        if (queue.isEmpty()) {
+            pulseTimer.stop();
+            scheduled.set(false);
+            // tasks queued while stopping the timer
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                pulseTimer.start();
+            }
+        }
+    }
+
+    /**
+     * @return the number of pending tasks (coalesced tasks are counted once)
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the time spent running tasks in the last drain, in nanoseconds
+     */
+    public long getLastDrainDuration() {
+        return lastDrainDuration;
+    }
+
+    /**
+     * @return the number of tasks run in the last drain
+     */
+    public int getLastDrainCount() {
+        return lastDrainCount;
+    }
+
+    /**
+     * @return the longest time a task waited in the queue before the last drain, in nanoseconds
+     */
+    public long getLastDrainLatency() {
+        return lastDrainLatency;
+    }
+
+    /**
+     * @return the longest time a task waited in the queue since the dispatcher was created,
+     * in nanoseconds
+     */
+    public long getMaxDrainLatency() {
+        return maxDrainLatency;
+    }
+
+    private static final class Task {
+        final Object key;
+        final Runnable runnable;
+        final long enqueueTime;
+
+        Task(Object key, Runnable runnable, long enqueueTime) {
+            this.key = key;
+            this.runnable = runnable;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+}
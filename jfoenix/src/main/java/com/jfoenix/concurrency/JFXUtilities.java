@@ -20,8 +20,19 @@
 package com.jfoenix.concurrency;
 
 import javafx.application.Platform;
+import javafx.util.Duration;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 
 /**
@@ -36,6 +47,12 @@ import java.util.concurrent.CountDownLatch;
 
 public class JFXUtilities {
 
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JFXUtilities-Timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * This method is used to run a specified Runnable in the FX Application thread,
      * it returns before the task finished execution
@@ -77,4 +94,121 @@ public class JFXUtilities {
             Thread.currentThread().interrupt();
         }
     }
+
+    /**
+     * This method is used to run a specified Supplier in the FX Application thread,
+     * it returns a future that is completed with the supplier result.
+     * <p>
+     * If the future is cancelled (or completed) before the task is started by the
+     * FX Application thread, the task is skipped.
+     *
+     * @param supplier This is the specified task to be executed by the FX Application thread
+     * @return a future of the supplier result
+     */
+    public static <T> CompletableFuture<T> supplyInFX(Supplier<T> supplier) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        runInFX(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * This method is used to run a specified Supplier in the FX Application thread,
+     * it returns a future that is completed with the supplier result, or with a
+     * {@link TimeoutException} if the task is not done within the specified timeout.
+     * <p>
+     * A timed out task is skipped if not started yet, otherwise its result is ignored.
+     *
+     * @param supplier This is the specified task to be executed by the FX Application thread
+     * @param timeout  the maximum time to wait for the task
+     * @return a future of the supplier result
+     */
+    public static <T> CompletableFuture<T> supplyInFX(Supplier<T> supplier, Duration timeout) {
+        return withTimeout(supplyInFX(supplier), timeout);
+    }
+
+    /**
+     * This method is used to run a specified Runnable in the FX Application thread,
+     * it returns a future that is completed once the task is executed.
+     * <p>
+     * If the future is cancelled before the task is started by the FX Application thread,
+     * the task is skipped.
+     *
+     * @param doRun This is the specified task to be executed by the FX Application thread
+     * @return a future of the task completion
+     */
+    public static CompletableFuture<Void> runInFXAsync(Runnable doRun) {
+        return supplyInFX(() -> {
+            doRun.run();
+            return null;
+        });
+    }
+
+    /**
+     * This method is used to run a specified Runnable in the FX Application thread,
+     * it returns a future that is completed once the task is executed, or with a
+     * {@link TimeoutException} if the task is not done within the specified timeout.
+     *
+     * @param doRun   This is the specified task to be executed by the FX Application thread
+     * @param timeout the maximum time to wait for the task
+     * @return a future of the task completion
+     */
+    public static CompletableFuture<Void> runInFXAsync(Runnable doRun, Duration timeout) {
+        return withTimeout(runInFXAsync(doRun), timeout);
+    }
+
+    /**
+     * This method is used to run a computation on the specified executor, then apply
+     * its result in the FX Application thread, without blocking any thread while waiting.
+     * <p>
+     * If the returned future is cancelled, the result is not applied.
+     *
+     * @param computation the task executed by the executor
+     * @param fxAction    applies the computation result in the FX Application thread
+     * @param executor    used to run the computation
+     * @return a future that is completed with the computation result once applied
+     */
+    public static <T> CompletableFuture<T> supplyAsyncThenRunInFX(Supplier<T> computation,
+                                                                   Consumer<? super T> fxAction,
+                                                                   Executor executor) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> future.isDone() ? null : computation.get(), executor)
+            .whenComplete((value, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                    return;
+                }
+                runInFX(() -> {
+                    if (future.isDone()) {
+                        return;
+                    }
+                    try {
+                        fxAction.accept(value);
+                        future.complete(value);
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            });
+        return future;
+    }
+
+    private static <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future, Duration timeout) {
+        if (future.isDone()) {
+            return future;
+        }
+        final ScheduledFuture<?> timer = TIMEOUT_SCHEDULER.schedule(
+            () -> future.completeExceptionally(new TimeoutException()),
+            (long) timeout.toMillis(), TimeUnit.MILLISECONDS);
+        future.whenComplete((value, error) -> timer.cancel(false));
+        return future;
+    }
 }
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.JFXRippler.RipplerMask;
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Draws the ripples and overlays of several ripplers into one canvas.
+ * <p>
+ * Ripples are not nodes: their state is computed from the elapsed time on each pulse,
+ * using the same durations and interpolators as {@link JFXRippler}, and drawn clipped
+ * to the rippler mask. The canvas is redrawn while ripples are active, and the pulse
+ * timer is stopped once they all faded out.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class CanvasRippleRenderer {
+
+    private static final double IN_DURATION = 900;
+    private static final double OUT_DURATION = 800;
+    private static final double OVERLAY_DURATION = 300;
+    private static final Interpolator RIPPLE_INTERPOLATOR = Interpolator.SPLINE(0.0825,
+        0.3025,
+        0.0875,
+        0.9975);
+
+    private final Canvas canvas;
+    private final Map<JFXRippler, Target> targets = new LinkedHashMap<>();
+    private boolean running = false;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            render(now);
+        }
+    };
+
+    CanvasRippleRenderer(Canvas canvas) {
+        this.canvas = canvas;
+    }
+
+    /**
+     * starts a ripple at the specified position of the rippler control
+     *
+     * @return a runnable that fades out the ripple
+     */
+    Runnable press(JFXRippler rippler, double x, double y) {
+        final long now = System.nanoTime();
+        final Target target = getTarget(rippler);
+        target.setOverlay(1, now);
+        final double radius = rippler.getRipplerRadius().doubleValue() == Region.USE_COMPUTED_SIZE
+            ? rippler.computeRippleRadius() : rippler.getRipplerRadius().doubleValue();
+        final Drop drop = new Drop(x, y, radius, now);
+        if (rippler.isRipplerRecenter()) {
+            final Node control = rippler.getControl();
+            double dx = (control.getLayoutBounds().getWidth() / 2 - x) / 1.55;
+            double dy = (control.getLayoutBounds().getHeight() / 2 - y) / 1.55;
+            drop.recenterX = Math.signum(dx) * Math.min(Math.abs(dx), radius / 2);
+            drop.recenterY = Math.signum(dy) * Math.min(Math.abs(dy), radius / 2);
+        }
+        target.drops.add(drop);
+        start();
+        return () -> release(drop);
+    }
+
+    private void release(Drop drop) {
+        if (drop.releaseTime < 0) {
+            final long now = System.nanoTime();
+            drop.releaseScale = drop.getScale(now);
+            drop.outDuration = drop.releaseScale > 0 ? Math.min(OUT_DURATION, (0.9 * 500) / drop.releaseScale) : OUT_DURATION;
+            drop.releaseTime = now;
+            start();
+        }
+    }
+
+    void showOverlay(JFXRippler rippler) {
+        getTarget(rippler).setOverlay(1, System.nanoTime());
+        start();
+    }
+
+    void hideOverlay(JFXRippler rippler) {
+        final Target target = targets.get(rippler);
+        if (target != null) {
+            target.setOverlay(0, System.nanoTime());
+            start();
+        }
+    }
+
+    private Target getTarget(JFXRippler rippler) {
+        Target target = targets.get(rippler);
+        if (target == null) {
+            target = new Target(rippler);
+            targets.put(rippler, target);
+        }
+        // colors are read on each press, as the fill may be changed by css
+        target.updatePaints();
+        return target;
+    }
+
+    private void start() {
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    private void render(long now) {
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (Iterator<Target> iterator = targets.values().iterator(); iterator.hasNext(); ) {
+            final Target target = iterator.next();
+            final Node control = target.rippler.getControl();
+            if (control == null || control.getScene() == null || control.getScene() != canvas.getScene()) {
+                iterator.remove();
+                continue;
+            }
+            final Bounds bounds = canvas.sceneToLocal(control.localToScene(control.getLayoutBounds()));
+            gc.save();
+            clip(gc, target.rippler, bounds);
+
+            final double overlayOpacity = target.getOverlayOpacity(now);
+            if (overlayOpacity > 0) {
+                gc.setGlobalAlpha(overlayOpacity);
+                gc.setFill(target.overlayPaint);
+                gc.fillRect(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+            }
+            gc.setFill(target.ripplePaint);
+            for (Iterator<Drop> drops = target.drops.iterator(); drops.hasNext(); ) {
+                final Drop drop = drops.next();
+                final double scale = drop.getScale(now);
+                final double opacity = drop.getOpacity(now);
+                if (opacity <= 0) {
+                    drops.remove();
+                    continue;
+                }
+                final double progress = Math.min(scale / 0.9, 1);
+                final Point2D center = canvas.sceneToLocal(control.localToScene(drop.x + drop.recenterX * progress,
+                    drop.y + drop.recenterY * progress));
+                final double radius = drop.radius * scale;
+                gc.setGlobalAlpha(opacity);
+                gc.fillOval(center.getX() - radius, center.getY() - radius, radius * 2, radius * 2);
+            }
+            gc.restore();
+            if (target.drops.isEmpty() && target.isOverlayHidden(now)) {
+                iterator.remove();
+            }
+        }
+        if (targets.isEmpty()) {
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            timer.stop();
+            running = false;
+        }
+    }
+
+    private void clip(GraphicsContext gc, JFXRippler rippler, Bounds bounds) {
+        gc.beginPath();
+        if (rippler.getMaskType() == RipplerMask.CIRCLE) {
+            final double radius = Math.min(bounds.getWidth(), bounds.getHeight()) / 2;
+            gc.arc(bounds.getMinX() + bounds.getWidth() / 2,
+                bounds.getMinY() + bounds.getHeight() / 2,
+                radius,
+                radius,
+                0,
+                360);
+        } else {
+            gc.rect(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+        }
+        gc.closePath();
+        gc.clip();
+    }
+
+    private static Paint withOpacity(Paint paint, double opacity) {
+        if (paint instanceof Color) {
+            Color color = (Color) paint;
+            return new Color(color.getRed(), color.getGreen(), color.getBlue(), opacity);
+        }
+        return paint;
+    }
+
+    private static double progress(long now, long start, double duration) {
+        return Math.min((now - start) / 1_000_000.0 / duration, 1);
+    }
+
+    /**
+     * ripples and overlay state of a rippler
+     */
+    private static final class Target {
+        final JFXRippler rippler;
+        final List<Drop> drops = new ArrayList<>();
+        Paint fillSource;
+        Paint ripplePaint;
+        Paint overlayPaint;
+        double overlayFrom = 0;
+        double overlayTo = 0;
+        long overlayStart = 0;
+
+        Target(JFXRippler rippler) {
+            this.rippler = rippler;
+        }
+
+        void updatePaints() {
+            if (fillSource != rippler.getRipplerFill()) {
+                fillSource = rippler.getRipplerFill();
+                ripplePaint = withOpacity(fillSource, 0.3);
+                overlayPaint = withOpacity(fillSource, 0.2);
+            }
+        }
+
+        void setOverlay(double opacity, long now) {
+            if (overlayTo != opacity) {
+                overlayFrom = getOverlayOpacity(now);
+                overlayTo = opacity;
+                overlayStart = now;
+            }
+        }
+
+        double getOverlayOpacity(long now) {
+            final Interpolator interpolator = overlayTo > overlayFrom ? Interpolator.EASE_IN : Interpolator.EASE_OUT;
+            return interpolator.interpolate(overlayFrom, overlayTo, progress(now, overlayStart, OVERLAY_DURATION));
+        }
+
+        boolean isOverlayHidden(long now) {
+            return overlayTo == 0 && progress(now, overlayStart, OVERLAY_DURATION) >= 1;
+        }
+    }
+
+    /**
+     * a single ripple
+     */
+    private static final class Drop {
+        final double x;
+        final double y;
+        final double radius;
+        final long pressTime;
+        double recenterX = 0;
+        double recenterY = 0;
+        long releaseTime = -1;
+        double releaseScale;
+        double outDuration;
+
+        Drop(double x, double y, double radius, long pressTime) {
+            this.x = x;
+            this.y = y;
+            this.radius = radius;
+            this.pressTime = pressTime;
+        }
+
+        double getScale(long now) {
+            if (releaseTime < 0) {
+                return RIPPLE_INTERPOLATOR.interpolate(0, 0.9, progress(now, pressTime, IN_DURATION));
+            }
+            return RIPPLE_INTERPOLATOR.interpolate(releaseScale, 1, progress(now, releaseTime, outDuration));
+        }
+
+        double getOpacity(long now) {
+            if (releaseTime < 0) {
+                return 1;
+            }
+            final double progress = progress(now, releaseTime, outDuration);
+            return progress >= 1 ? 0 : RIPPLE_INTERPOLATOR.interpolate(1.0, 0.0, progress);
+        }
+    }
+}
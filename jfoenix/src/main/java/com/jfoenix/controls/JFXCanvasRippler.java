@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import javafx.event.Event;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.input.MouseEvent;
+
+/**
+ * JFXCanvasRippler is a lightweight {@link JFXRippler}, that doesn't add any node to
+ * the scene graph for its ripples and overlay. They are drawn by the closest
+ * {@link JFXRippleLayer} ancestor into its shared canvases, so a container with many
+ * ripplers only holds the ripplers and their controls.
+ * <p>
+ * If the rippler isn't inside a ripple layer, a canvas is created in the rippler on the
+ * first ripple. The mask, position, and css properties (-jfx-rippler-fill, -jfx-rippler-radius,
+ * -jfx-rippler-recenter, -jfx-rippler-disabled) are supported the same as in JFXRippler,
+ * except for controls with custom shapes that are masked by their bounds.
+ * The {@link #rippler} and {@link #ripplerPane} fields are not used, and are always null.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JFXCanvasRippler extends JFXRippler {
+
+    // these fields are not initialized in their declaration, as they
+    // are set by setControl while the super constructor is running
+    private boolean listenersInstalled;
+    private Canvas canvas;
+    private CanvasRippleRenderer renderer;
+
+    private CanvasRippleRenderer pressRenderer;
+    private Runnable releaseRipple;
+    private boolean rippleEnabled = true;
+
+    /**
+     * creates empty canvas rippler node
+     */
+    public JFXCanvasRippler() {
+        super();
+    }
+
+    /**
+     * creates a canvas rippler for the specified control
+     *
+     * @param control
+     */
+    public JFXCanvasRippler(Node control) {
+        super(control);
+    }
+
+    /**
+     * creates a canvas rippler for the specified control
+     *
+     * @param control
+     * @param pos     can be either FRONT/BACK (position the ripple effect infront of or behind the control)
+     */
+    public JFXCanvasRippler(Node control, RipplerPos pos) {
+        super(control, pos);
+    }
+
+    /**
+     * creates a canvas rippler for the specified control and apply the specified mask to it
+     *
+     * @param control
+     * @param mask    can be either rectangle/cricle
+     */
+    public JFXCanvasRippler(Node control, RipplerMask mask) {
+        super(control, mask);
+    }
+
+    /**
+     * creates a canvas rippler for the specified control, mask and position.
+     *
+     * @param control
+     * @param mask    can be either rectangle/cricle
+     * @param pos     can be either FRONT/BACK (position the ripple effect infront of or behind the control)
+     */
+    public JFXCanvasRippler(Node control, RipplerMask mask, RipplerPos pos) {
+        super(control, mask, pos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setControl(Node control) {
+        if (control != null) {
+            this.control = control;
+            updateChildren();
+            if (!listenersInstalled) {
+                listenersInstalled = true;
+                initListeners();
+                this.position.addListener((o, oldVal, newVal) -> updateChildren());
+            }
+        }
+    }
+
+    private void updateChildren() {
+        if (canvas == null) {
+            getChildren().setAll(control);
+        } else if (getPosition() == RipplerPos.BACK) {
+            getChildren().setAll(canvas, control);
+        } else {
+            getChildren().setAll(control, canvas);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEnabled(boolean enable) {
+        super.setEnabled(enable);
+        this.rippleEnabled = enable;
+    }
+
+    /**
+     * init mouse filters on the rippler node, mouse events are not intercepted
+     * and reach the control directly
+     */
+    @Override
+    protected void initListeners() {
+        addEventFilter(MouseEvent.MOUSE_PRESSED, (event) -> {
+            Point2D point = control.parentToLocal(event.getX(), event.getY());
+            createRipple(point.getX(), point.getY());
+        });
+        addEventFilter(MouseEvent.MOUSE_RELEASED, (event) -> releaseRipple());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void createRipple(double x, double y) {
+        if (rippleEnabled && !isRipplerDisabled() && releaseRipple == null) {
+            pressRenderer = getRenderer();
+            releaseRipple = pressRenderer.press(this, x, y);
+        }
+    }
+
+    private void releaseRipple() {
+        if (releaseRipple != null) {
+            final Runnable release = releaseRipple;
+            releaseRipple = null;
+            release.run();
+            pressRenderer.hideOverlay(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fireEventProgrammatically(Event event) {
+        if (!event.isConsumed()) {
+            control.fireEvent(event);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void showOverlay() {
+        getRenderer().showOverlay(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void hideOverlay() {
+        // nothing to hide if the overlay was never shown
+        final CanvasRippleRenderer current = getRenderer(false);
+        if (current != null) {
+            current.hideOverlay(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Runnable createManualRipple() {
+        if (releaseRipple != null) {
+            return () -> {
+            };
+        }
+        createRipple(control.getLayoutBounds().getWidth() / 2, control.getLayoutBounds().getHeight() / 2);
+        return this::releaseRipple;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void layoutChildren() {
+        super.layoutChildren();
+        if (canvas != null) {
+            canvas.setWidth(getWidth());
+            canvas.setHeight(getHeight());
+            canvas.relocate(0, 0);
+        }
+    }
+
+    private CanvasRippleRenderer getRenderer() {
+        return getRenderer(true);
+    }
+
+    /**
+     * @param create whether the rippler own canvas is created if it's not inside a ripple layer
+     * @return the renderer of the closest ripple layer, or the rippler own renderer
+     */
+    private CanvasRippleRenderer getRenderer(boolean create) {
+        for (Parent parent = getParent(); parent != null; parent = parent.getParent()) {
+            if (parent instanceof JFXRippleLayer) {
+                return ((JFXRippleLayer) parent).getRenderer(getPosition());
+            }
+        }
+        if (canvas == null && create) {
+            canvas = new Canvas(getWidth(), getHeight());
+            canvas.setManaged(false);
+            canvas.setMouseTransparent(true);
+            renderer = new CanvasRippleRenderer(canvas);
+            updateChildren();
+        }
+        return renderer;
+    }
+}
@@ -61,7 +61,9 @@ import javafx.util.Duration;
  */
 public class JFXListCell<T> extends ListCell<T> {
 
-    protected JFXRippler cellRippler = new JFXRippler(new StackPane()) {
+    // list cells are recycled in large numbers, so the ripple nodes
+    // are only created while the cell is being pressed
+    protected JFXRippler cellRippler = new JFXRippler(new StackPane(), JFXRippler.RipplerMask.RECT, JFXRippler.RipplerPos.FRONT, true) {
         @Override
         protected void initListeners() {
             ripplerPane.setOnMousePressed((event) -> createRipple(event.getX(), event.getY()));
@@ -93,7 +95,7 @@ public class JFXListCell<T> extends ListCell<T> {
             if (newList != null) {
                 if (getListView() instanceof JFXListView) {
                     ((JFXListView<?>) newList).currentVerticalGapProperty().addListener((o, oldVal, newVal) -> {
-                        cellRippler.rippler.setClip(null);
+                        cellRippler.resetClip();
                         if (newVal.doubleValue() != 0) {
                             playExpandAnimation = true;
                             getListView().requestLayout();
@@ -177,7 +179,7 @@ public class JFXListCell<T> extends ListCell<T> {
         if (!getChildren().contains(cellRippler)) {
             makeChildrenTransparent();
             getChildren().add(0, cellRippler);
-            cellRippler.rippler.clear();
+            cellRippler.clearRipples();
         }
 
         // refresh sublist style class
@@ -240,7 +242,7 @@ public class JFXListCell<T> extends ListCell<T> {
                 if (currentNode == null || !currentNode.equals(newNode)) {
                     // clear nodes
                     cellContent = newNode;
-                    cellRippler.rippler.cacheRippleClip(false);
+                    cellRippler.resetClip();
 
                     // build the Cell node
                     // RIPPLER ITEM : in case if the list item has its own rippler bind the list rippler and item rippler properties
@@ -310,9 +312,6 @@ public class JFXListCell<T> extends ListCell<T> {
                                 contentHolder.fireEvent(e);
                             }
                         });
-                        // cache rippler clip in subnodes
-                        cellRippler.rippler.cacheRippleClip(true);
-
                         this.setOnMouseClicked(e -> e.consume());
                         // Finally, add sublist animation
                         contentHolder.setOnMouseClicked((click) -> {
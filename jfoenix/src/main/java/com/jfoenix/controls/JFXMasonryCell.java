@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Cell of {@link JFXVirtualMasonryPane}, cells are created by the pane cell factory
+ * and recycled to show different items while scrolling.
+ * <p>
+ * Subclasses should override {@link #updateItem(Object, boolean)} to show the item,
+ * calling the super implementation first, the same as {@link javafx.scene.control.Cell}.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JFXMasonryCell<T> extends StackPane {
+
+    private final ReadOnlyObjectWrapper<T> item = new ReadOnlyObjectWrapper<>(this, "item");
+    private final ReadOnlyBooleanWrapper empty = new ReadOnlyBooleanWrapper(this, "empty", true);
+    private final ReadOnlyIntegerWrapper index = new ReadOnlyIntegerWrapper(this, "index", -1);
+    private Label label;
+
+    /**
+     * creates an empty masonry cell
+     */
+    public JFXMasonryCell() {
+        initialize();
+    }
+
+    /**
+     * updates the item shown in the cell, the default implementation shows the item
+     * if it's a node, otherwise it shows its string value in a label.
+     *
+     * @param item  the new item of the cell
+     * @param empty whether the cell is empty
+     */
+    protected void updateItem(T item, boolean empty) {
+        this.item.set(item);
+        this.empty.set(empty);
+        if (empty || item == null) {
+            getChildren().clear();
+        } else if (item instanceof Node) {
+            getChildren().setAll((Node) item);
+        } else {
+            if (label == null) {
+                label = new Label();
+            }
+            label.setText(item.toString());
+            getChildren().setAll(label);
+        }
+    }
+
+    /**
+     * assigns the cell to the item at the specified index
+     */
+    void updateIndex(int index, T item) {
+        this.index.set(index);
+        if (isEmpty() || getItem() != item) {
+            updateItem(item, false);
+        }
+    }
+
+    /**
+     * clears the cell before putting it back to the recycled cells
+     */
+    void release() {
+        this.index.set(-1);
+        updateItem(null, true);
+    }
+
+    public final ReadOnlyObjectProperty<T> itemProperty() {
+        return item.getReadOnlyProperty();
+    }
+
+    /**
+     * @return the item shown in the cell
+     */
+    public final T getItem() {
+        return item.get();
+    }
+
+    public final ReadOnlyBooleanProperty emptyProperty() {
+        return empty.getReadOnlyProperty();
+    }
+
+    /**
+     * @return true if the cell doesn't show any item
+     */
+    public final boolean isEmpty() {
+        return empty.get();
+    }
+
+    public final ReadOnlyIntegerProperty indexProperty() {
+        return index.getReadOnlyProperty();
+    }
+
+    /**
+     * @return the index of the cell item, -1 if the cell is empty
+     */
+    public final int getIndex() {
+        return index.get();
+    }
+
+    /**
+     * Initialize the style class to 'jfx-masonry-cell'.
+     * <p>
+     * This is the selector class from which CSS can be used to style
+     * this control.
+     */
+    private static final String DEFAULT_STYLE_CLASS = "jfx-masonry-cell";
+
+    private void initialize() {
+        this.getStyleClass().add(DEFAULT_STYLE_CLASS);
+    }
+}
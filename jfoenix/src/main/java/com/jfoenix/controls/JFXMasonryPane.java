@@ -19,6 +19,7 @@
 
 package com.jfoenix.controls;
 
+import com.jfoenix.concurrency.JFXUtilities;
 import com.jfoenix.transitions.CachedTransition;
 import javafx.animation.*;
 import javafx.beans.property.*;
@@ -32,8 +33,13 @@ import javafx.scene.layout.Region;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * A JFXMasonryPane implements asymmetrical grid layoutMode, it places the child nodes according to
@@ -56,11 +62,25 @@ public class JFXMasonryPane extends Pane {
 
     private boolean performingLayout = false;
     // these variables are computed when layoutChildren is called
-    private int[][] matrix;
+    private OccupancyIndex occupancy;
     private HashMap<Region, Transition> animationMap = null;
-    private ParallelTransition trans = new ParallelTransition();
     private boolean valid = false;
-    private List<BoundingBox> oldBoxes;
+    private List<BoundingBox> oldBoxes = new ArrayList<>();
+    // the last box of each child, null if the child is hidden
+    private final HashMap<Region, BoundingBox> placements = new HashMap<>();
+    // new children hidden while their async layout is computed
+    private final HashSet<Region> hiddenChildren = new HashSet<>();
+    // children starting from this index are placed again in the next layout
+    private int firstDirtyChild = 0;
+    private boolean childrenRemoved = false;
+    // incremented by each layout, a grid computed for an older layout is discarded
+    private volatile int layoutGeneration = 0;
+
+    private static final ExecutorService LAYOUT_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JFXMasonryPane-Layout");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Constructs a new JFXMasonryPane
@@ -74,6 +94,7 @@ public class JFXMasonryPane extends Pane {
         });
         ChangeListener<? super Number> layoutListener = (o, oldVal, newVal) -> {
             valid = false;
+            occupancy = null;
             this.requestLayout();
         };
         this.cellWidthProperty().addListener(layoutListener);
@@ -83,8 +104,11 @@ public class JFXMasonryPane extends Pane {
         this.limitColumnProperty().addListener(layoutListener);
         this.limitRowProperty().addListener(layoutListener);
         this.getChildren().addListener((Change<? extends Node> c) -> {
+            while (c.next()) {
+                firstDirtyChild = Math.min(firstDirtyChild, c.getFrom());
+                childrenRemoved |= c.wasRemoved();
+            }
             valid = false;
-            matrix = null;
             this.requestLayout();
         });
     }
@@ -100,153 +124,265 @@ public class JFXMasonryPane extends Pane {
             int col, row;
             col = (int) Math.floor(this.getWidth() / (getCellWidth() + 2 * getHSpacing()));
             col = getLimitColumn() != -1 && col > getLimitColumn() ? getLimitColumn() : col;
+            // rows are allocated on demand, so the grid is only bounded by the row limit
+            row = getLimitRow() != -1 ? getLimitRow() : Integer.MAX_VALUE;
 
-            if (matrix != null && col == matrix[0].length) {
-                performingLayout = false;
-                return;
-            }
-            //(int) Math.floor(this.getHeight() / (cellH + 2*vSpacing));
-            row = 100;
-            row = getLimitRow() != -1 && row > getLimitRow() ? getLimitRow() : row;
-
-            matrix = new int[row][col];
-            double minWidth = -1;
-            double minHeight = -1;
-
-            List<BoundingBox> newBoxes;
             List<Region> childs = new ArrayList<>();
             for (int i = 0; i < getChildren().size(); i++) {
                 if (getChildren().get(i) instanceof Region) {
                     childs.add((Region) getChildren().get(i));
                 }
             }
-            newBoxes = layoutMode.get()
-                .fillGrid(matrix,
-                    childs,
-                    getCellWidth(),
-                    getCellHeight(),
-                    row,
-                    col,
-                    getHSpacing(),
-                    getVSpacing());
-
-            if (newBoxes == null) {
+            if (childrenRemoved) {
+                releaseRemovedChildren();
+            }
+
+            final boolean fullLayout = occupancy == null || col != occupancy.getColumns();
+            if (!fullLayout && firstDirtyChild >= childs.size() && childs.size() == oldBoxes.size()) {
                 performingLayout = false;
                 return;
             }
-            for (int i = 0; i < getChildren().size() && i < newBoxes.size(); i++) {
-                Region block = (Region) getChildren().get(i);
-                if (!(block instanceof GridPane)) {
-                    double blockX;
-                    double blockY;
-                    double blockWidth;
-                    double blockHeight;
-                    if (newBoxes.get(i) != null) {
-                        blockX = newBoxes.get(i).getMinY() * getCellWidth() + ((newBoxes.get(i)
-                            .getMinY() + 1) * 2 - 1) * getHSpacing();
-                        blockY = newBoxes.get(i).getMinX() * getCellHeight() + ((newBoxes.get(i)
-                            .getMinX() + 1) * 2 - 1) * getVSpacing();
-                        blockWidth = newBoxes.get(i).getWidth() * getCellWidth() + (newBoxes.get(i)
-                            .getWidth() - 1) * 2 * getHSpacing();
-                        blockHeight = newBoxes.get(i).getHeight() * getCellHeight() + (newBoxes.get(i)
-                            .getHeight() - 1) * 2 * getVSpacing();
-                    } else {
-                        blockX = block.getLayoutX();
-                        blockY = block.getLayoutY();
-                        blockWidth = -1;
-                        blockHeight = -1;
-                    }
 
-                    if (animationMap == null) {
-                        // init static children
-                        block.setLayoutX(blockX);
-                        block.setLayoutY(blockY);
-                        block.setPrefSize(blockWidth, blockHeight);
-                        block.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
-                    } else {
-                        if (oldBoxes == null || i >= oldBoxes.size()) {
-                            // handle new children
-                            block.setOpacity(0);
-                            block.setLayoutX(blockX);
-                            block.setLayoutY(blockY);
-                            block.setPrefSize(blockWidth, blockHeight);
-                            block.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
-                        }
-
-                        if (newBoxes.get(i) != null) {
-                            // handle children repositioning
-                            final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
-                                new KeyValue(block.opacityProperty(),
-                                    1,
-                                    Interpolator.LINEAR),
-                                new KeyValue(block.layoutXProperty(),
-                                    blockX,
-                                    Interpolator.LINEAR),
-                                new KeyValue(block.layoutYProperty(),
-                                    blockY,
-                                    Interpolator.LINEAR));
-                            animationMap.put(block,
-                                new CachedTransition(block, new Timeline(keyFrame)) {{
-                                    setCycleDuration(Duration.seconds(0.320));
-                                    setDelay(Duration.seconds(0));
-                                    setOnFinished((finish) -> {
-                                        block.setLayoutX(blockX);
-                                        block.setLayoutY(blockY);
-                                        block.setOpacity(1);
-                                    });
-                                }});
-
-                        } else {
-                            // handle children is being hidden ( cause it can't fit in the pane )
-                            final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
-                                new KeyValue(block.opacityProperty(),
-                                    0,
-                                    Interpolator.LINEAR),
-                                new KeyValue(block.layoutXProperty(),
-                                    blockX,
-                                    Interpolator.LINEAR),
-                                new KeyValue(block.layoutYProperty(),
-                                    blockY,
-                                    Interpolator.LINEAR));
-                            animationMap.put(block,
-                                new CachedTransition(block, new Timeline(keyFrame)) {{
-                                    setCycleDuration(Duration.seconds(0.320));
-                                    setDelay(Duration.seconds(0));
-                                    setOnFinished((finish) -> {
-                                        block.setLayoutX(blockX);
-                                        block.setLayoutY(blockY);
-                                        block.setOpacity(0);
-                                    });
-                                }});
-                        }
+            final int firstChild = fullLayout ? 0 : Math.min(firstDirtyChild, Math.min(childs.size(), oldBoxes.size()));
+            final List<BoundingBox> keptBoxes = new ArrayList<>(oldBoxes.subList(0, firstChild));
+            final List<BlockSize> blockSizes = getBlockSizes(childs.subList(firstChild, childs.size()));
+            final int generation = ++layoutGeneration;
 
+            if (isAsyncLayout()) {
+                // the previous placement is kept until the grid is computed, new children are hidden
+                for (int i = firstChild; i < childs.size(); i++) {
+                    if (!placements.containsKey(childs.get(i)) && hiddenChildren.add(childs.get(i))) {
+                        childs.get(i).setOpacity(0);
                     }
-                    if (newBoxes.get(i) != null) {
-                        if (blockX + blockWidth > minWidth) {
-                            minWidth = blockX + blockWidth;
+                }
+                final LayoutMode mode = getLayoutMode();
+                final double cellWidth = getCellWidth();
+                final double cellHeight = getCellHeight();
+                final double hSpacing = getHSpacing();
+                final double vSpacing = getVSpacing();
+                final int columns = col;
+                final int rows = row;
+                // the grid may be applied right away if it's computed before this method returns
+                valid = true;
+                JFXUtilities.supplyAsyncThenRunInFX(() -> {
+                    if (generation != layoutGeneration) {
+                        return null;
+                    }
+                    OccupancyIndex index = new OccupancyIndex(columns, rows);
+                    for (BoundingBox box : keptBoxes) {
+                        if (box != null) {
+                            index.occupy(box);
                         }
-                        if (blockY + blockHeight > minHeight) {
-                            minHeight = blockY + blockHeight;
+                    }
+                    return new GridLayout(index, mode.fillGrid(index, blockSizes, cellWidth, cellHeight, hSpacing, vSpacing));
+                }, grid -> {
+                    // the children changed while computing the grid, a new layout is requested
+                    if (grid != null && generation == layoutGeneration && valid) {
+                        performingLayout = true;
+                        applyLayout(childs, firstChild, keptBoxes, grid.index, grid.boxes);
+                        performingLayout = false;
+                    } else {
+                        requestLayout();
+                    }
+                }, LAYOUT_EXECUTOR);
+            } else {
+                OccupancyIndex index = occupancy;
+                if (fullLayout || firstChild < oldBoxes.size()) {
+                    // reflow the children after the first changed one, against the occupancy
+                    // of the children before it
+                    index = new OccupancyIndex(col, row);
+                    for (BoundingBox box : keptBoxes) {
+                        if (box != null) {
+                            index.occupy(box);
                         }
                     }
                 }
+                // appended children are placed against the current occupancy
+                applyLayout(childs, firstChild, keptBoxes, index, layoutMode.get()
+                    .fillGrid(index,
+                        blockSizes,
+                        getCellWidth(),
+                        getCellHeight(),
+                        getHSpacing(),
+                        getVSpacing()));
+            }
+        }
+
+        performingLayout = false;
+    }
+
+    private void applyLayout(List<Region> childs, int firstChild, List<BoundingBox> keptBoxes,
+                             OccupancyIndex index, List<BoundingBox> placedBoxes) {
+        if (placedBoxes == null) {
+            occupancy = null;
+            valid = false;
+            return;
+        }
+        occupancy = index;
+        List<BoundingBox> newBoxes = new ArrayList<>(keptBoxes);
+        newBoxes.addAll(placedBoxes);
+
+        for (int i = firstChild; i < childs.size(); i++) {
+            if (!(childs.get(i) instanceof GridPane)) {
+                layoutBlock(childs.get(i), newBoxes.get(i));
             }
-            this.setMinSize(minWidth, minHeight);
-            if (animationMap == null) {
-                animationMap = new HashMap<>();
+        }
+
+        double minWidth = -1;
+        double minHeight = -1;
+        for (int i = 0; i < newBoxes.size(); i++) {
+            BoundingBox box = newBoxes.get(i);
+            if (box != null && !(childs.get(i) instanceof GridPane)) {
+                minWidth = Math.max(minWidth, getBlockX(box) + getBlockWidth(box));
+                minHeight = Math.max(minHeight, getBlockY(box) + getBlockHeight(box));
+            }
+        }
+        this.setMinSize(minWidth, minHeight);
+        if (animationMap == null) {
+            animationMap = new HashMap<>();
+        }
+
+        oldBoxes = newBoxes;
+        firstDirtyChild = Integer.MAX_VALUE;
+
+        valid = true;
+    }
+
+    private void layoutBlock(Region block, BoundingBox box) {
+        final boolean placed = placements.containsKey(block);
+        final BoundingBox oldBox = placements.put(block, box);
+        if (placed && Objects.equals(oldBox, box)) {
+            // the block didn't move
+            return;
+        }
+        double blockX;
+        double blockY;
+        double blockWidth;
+        double blockHeight;
+        if (box != null) {
+            blockX = getBlockX(box);
+            blockY = getBlockY(box);
+            blockWidth = getBlockWidth(box);
+            blockHeight = getBlockHeight(box);
+        } else {
+            blockX = block.getLayoutX();
+            blockY = block.getLayoutY();
+            blockWidth = -1;
+            blockHeight = -1;
+        }
+
+        final boolean hidden = hiddenChildren.remove(block);
+        if (animationMap == null) {
+            // init static children
+            if (hidden && box != null) {
+                // hidden by the async layout until it's placed
+                block.setOpacity(1);
             }
+            block.setLayoutX(blockX);
+            block.setLayoutY(blockY);
+            block.setPrefSize(blockWidth, blockHeight);
+            block.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
+            return;
+        }
 
-            trans.stop();
-            ParallelTransition newTransition = new ParallelTransition();
-            newTransition.getChildren().addAll(animationMap.values());
-            newTransition.play();
-            trans = newTransition;
-            oldBoxes = newBoxes;
+        if (!placed) {
+            // handle new children
+            block.setOpacity(0);
+            block.setLayoutX(blockX);
+            block.setLayoutY(blockY);
+            block.setPrefSize(blockWidth, blockHeight);
+            block.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
+        }
+        if (box != null) {
+            // handle children repositioning
+            animateBlock(block, blockX, blockY, 1);
+        } else if (oldBox != null) {
+            // handle children is being hidden ( cause it can't fit in the pane )
+            animateBlock(block, blockX, blockY, 0);
+        }
+    }
 
-            valid = true;
+    private void animateBlock(Region block, double blockX, double blockY, double opacity) {
+        Transition oldTransition = animationMap.remove(block);
+        if (oldTransition != null) {
+            oldTransition.stop();
         }
+        final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
+            new KeyValue(block.opacityProperty(),
+                opacity,
+                Interpolator.LINEAR),
+            new KeyValue(block.layoutXProperty(),
+                blockX,
+                Interpolator.LINEAR),
+            new KeyValue(block.layoutYProperty(),
+                blockY,
+                Interpolator.LINEAR));
+        final Transition transition = new CachedTransition(block, new Timeline(keyFrame)) {{
+            setCycleDuration(Duration.seconds(0.320));
+            setDelay(Duration.seconds(0));
+        }};
+        transition.setOnFinished((finish) -> {
+            block.setLayoutX(blockX);
+            block.setLayoutY(blockY);
+            block.setOpacity(opacity);
+            animationMap.remove(block, transition);
+        });
+        animationMap.put(block, transition);
+        transition.play();
+    }
 
-        performingLayout = false;
+    /**
+     * forgets the boxes and stops the animations of the removed children
+     */
+    private void releaseRemovedChildren() {
+        placements.keySet().removeIf(block -> block.getParent() != this);
+        hiddenChildren.removeIf(block -> block.getParent() != this);
+        if (animationMap != null) {
+            animationMap.entrySet().removeIf(entry -> {
+                if (entry.getKey().getParent() != this) {
+                    entry.getValue().stop();
+                    return true;
+                }
+                return false;
+            });
+        }
+        childrenRemoved = false;
+    }
+
+    private List<BlockSize> getBlockSizes(List<Region> blocks) {
+        List<BlockSize> sizes = new ArrayList<>(blocks.size());
+        for (Region block : blocks) {
+            sizes.add(BlockSize.of(block));
+        }
+        return sizes;
+    }
+
+    /**
+     * @return the x position of the specified grid box
+     */
+    protected double getBlockX(BoundingBox box) {
+        return box.getMinY() * getCellWidth() + ((box.getMinY() + 1) * 2 - 1) * getHSpacing();
+    }
+
+    /**
+     * @return the y position of the specified grid box
+     */
+    protected double getBlockY(BoundingBox box) {
+        return box.getMinX() * getCellHeight() + ((box.getMinX() + 1) * 2 - 1) * getVSpacing();
+    }
+
+    /**
+     * @return the width of the specified grid box
+     */
+    protected double getBlockWidth(BoundingBox box) {
+        return box.getWidth() * getCellWidth() + (box.getWidth() - 1) * 2 * getHSpacing();
+    }
+
+    /**
+     * @return the height of the specified grid box
+     */
+    protected double getBlockHeight(BoundingBox box) {
+        return box.getHeight() * getCellHeight() + (box.getHeight() - 1) * 2 * getVSpacing();
     }
 
     /**
@@ -447,6 +583,44 @@ public class JFXMasonryPane extends Pane {
     }
 
 
+    /**
+     * if true, the grid is computed on a background thread and applied on the FX thread
+     * once ready. Until then the children keep their previous placement, and new children
+     * are hidden. Layout modes used asynchronously must be thread safe.
+     */
+    private BooleanProperty asyncLayout = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty asyncLayoutProperty() {
+        return this.asyncLayout;
+    }
+
+    /**
+     * @return true if the grid is computed on a background thread
+     */
+    public final boolean isAsyncLayout() {
+        return this.asyncLayoutProperty().get();
+    }
+
+    /**
+     * sets whether the grid is computed on a background thread
+     *
+     * @param asyncLayout true to compute the grid on a background thread
+     */
+    public final void setAsyncLayout(final boolean asyncLayout) {
+        this.asyncLayoutProperty().set(asyncLayout);
+    }
+
+
+    private static final class GridLayout {
+        final OccupancyIndex index;
+        final List<BoundingBox> boxes;
+
+        GridLayout(OccupancyIndex index, List<BoundingBox> boxes) {
+            this.index = index;
+            this.boxes = boxes;
+        }
+    }
+
     /***************************************************************************
      *                                                                         *
      * Layout Modes                                                            *
@@ -457,7 +631,49 @@ public class JFXMasonryPane extends Pane {
         public static final MasonryLayout MASONRY = new MasonryLayout();
         public static final BinPackingLayout BIN_PACKING = new BinPackingLayout();
 
-        protected abstract List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY);
+        /**
+         * places the blocks in the grid, the occupied cells are marked in the occupancy index.
+         * <p>
+         * by default, the grid is filled by the deprecated matrix based
+         * {@link #fillGrid(int[][], List, double, double, int, int, double, double)}, so
+         * layout modes must override one of the two methods.
+         *
+         * @return the box (row, column, columns count, rows count) of each block, or null
+         * for blocks that can't fit in the grid
+         */
+        @SuppressWarnings("deprecation")
+        protected List<BoundingBox> fillGrid(OccupancyIndex index, List<BlockSize> blocks, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            if (blocks.isEmpty()) {
+                return new ArrayList<>();
+            }
+            // the matrix has enough rows for the occupied rows and the blocks stacked below them
+            long rows = index.getHeight();
+            List<Region> children = new ArrayList<>(blocks.size());
+            for (BlockSize block : blocks) {
+                rows += (long) Math.ceil(block.getHeight() / (cellHeight + gutterY)) + 1;
+                Region child = new Region();
+                child.setMinSize(block.getMinWidth(), block.getMinHeight());
+                child.setPrefSize(block.getPrefWidth(), block.getPrefHeight());
+                children.add(child);
+            }
+            final int limitRow = (int) Math.min(rows, index.getRowLimit());
+            final int limitCol = index.getColumns();
+            int[][] matrix = new int[limitRow][limitCol];
+            for (int i = 0; i < Math.min(limitRow, index.getHeight()); i++) {
+                for (int j = 0; j < limitCol; j++) {
+                    if (!index.isFree(i, j, 1, 1)) {
+                        matrix[i][j] = -1;
+                    }
+                }
+            }
+            List<BoundingBox> boxes = fillGrid(matrix, children, cellWidth, cellHeight, limitRow, limitCol, gutterX, gutterY);
+            for (int b = 0; boxes != null && b < boxes.size(); b++) {
+                if (boxes.get(b) != null) {
+                    index.occupy(boxes.get(b));
+                }
+            }
+            return boxes;
+        }
 
         /**
          * returns the available box at the cell (x,y) of the grid that fits the block if existed
@@ -467,101 +683,123 @@ public class JFXMasonryPane extends Pane {
          * @param block
          * @return
          */
-        protected BoundingBox getFreeArea(int[][] matrix, int x, int y, Region block, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
-            double blockHeight = getBLockHeight(block);
-            double blockWidth = getBLockWidth(block);
+        protected BoundingBox getFreeArea(OccupancyIndex index, int x, int y, BlockSize block, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            double blockHeight = block.getHeight();
+            double blockWidth = block.getWidth();
 
             int rowsNeeded = (int) Math.ceil(blockHeight / (cellHeight + gutterY));
             if (cellHeight * rowsNeeded + (rowsNeeded - 1) * 2 * gutterY < blockHeight) {
                 rowsNeeded++;
             }
-            int maxRow = Math.min(x + rowsNeeded, limitRow);
+            int maxRow = (int) Math.min((long) x + rowsNeeded, index.getRowLimit());
 
             int colsNeeded = (int) Math.ceil(blockWidth / (cellWidth + gutterX));
             if (cellWidth * colsNeeded + (colsNeeded - 1) * 2 * gutterX < blockWidth) {
                 colsNeeded++;
             }
-            int maxCol = Math.min(y + colsNeeded, limitCol);
+            int maxCol = Math.min(y + colsNeeded, index.getColumns());
 
             int minRow = maxRow;
             int minCol = maxCol;
-            for (int i = x; i < minRow; i++) {
-                for (int j = y; j < maxCol; j++) {
-                    if (matrix[i][j] != 0) {
-                        if (y < j && j < minCol) {
-                            minCol = j;
-                        }
-                    }
+            // rows after the index height are empty
+            int occupiedRows = Math.min(maxRow, index.getHeight());
+            for (int i = x; i < occupiedRows; i++) {
+                int j = index.nextOccupiedColumn(i, y + 1);
+                if (j != -1 && j < minCol) {
+                    minCol = j;
                 }
             }
-            for (int i = x; i < maxRow; i++) {
-                for (int j = y; j < minCol; j++) {
-                    if (matrix[i][j] != 0) {
-                        if (x < i && i < minRow) {
-                            minRow = i;
-                        }
-                    }
+            for (int i = x + 1; i < occupiedRows; i++) {
+                if (!index.isFree(i, y, minCol - y, 1)) {
+                    minRow = i;
+                    break;
                 }
             }
             return new BoundingBox(x, y, minCol - y, minRow - x);
         }
 
-        protected double getBLockWidth(Region region) {
-            if (region.getMinWidth() != -1) {
-                return region.getMinWidth();
-            }
-            if (region.getPrefWidth() != USE_COMPUTED_SIZE) {
-                return region.getPrefWidth();
-            } else {
-                return region.prefWidth(-1);
+        protected boolean validWidth(BoundingBox box, BlockSize block, double cellW, double gutterX, double gutterY) {
+            double boxWidth = box.getWidth() * cellW + (box.getWidth() - 1) * 2 * gutterX;
+            if (block.getMinWidth() != -1 && boxWidth < block.getMinWidth()) {
+                return false;
             }
+            return boxWidth >= block.getPrefWidth();
         }
 
-        protected double getBLockHeight(Region region) {
-            if (region.getMinHeight() != -1) {
-                return region.getMinHeight();
-            }
-            if (region.getPrefHeight() != USE_COMPUTED_SIZE) {
-                return region.getPrefHeight();
-            } else {
-                return region.prefHeight(getBLockWidth(region));
+        protected boolean validHeight(BoundingBox box, BlockSize block, double cellH, double gutterX, double gutterY) {
+            double boxHeight = box.getHeight() * cellH + (box.getHeight() - 1) * 2 * gutterY;
+            if (block.getMinHeight() != -1 && boxHeight < block.getMinHeight()) {
+                return false;
             }
+            return boxHeight >= block.getPrefHeight();
         }
 
-        protected boolean validWidth(BoundingBox box, Region region, double cellW, double gutterX, double gutterY) {
-            boolean valid = false;
-            if (region.getMinWidth() != -1 && box.getWidth() * cellW + (box.getWidth() - 1) * 2 * gutterX < region.getMinWidth()) {
-                return false;
+        /**
+         * @deprecated use {@link #fillGrid(OccupancyIndex, List, double, double, double, double)} instead
+         */
+        @Deprecated
+        protected List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
+            if (matrix.length <= 0) {
+                return null;
             }
-
-            if (region.getPrefWidth() == USE_COMPUTED_SIZE && box.getWidth() * cellW + (box.getWidth() - 1) * 2 * gutterX >= region
-                .prefWidth(-1)) {
-                valid = true;
+            List<BlockSize> blocks = new ArrayList<>(children.size());
+            for (Region child : children) {
+                blocks.add(BlockSize.of(child));
             }
-            if (region.getPrefWidth() != USE_COMPUTED_SIZE && box.getWidth() * cellW + (box.getWidth() - 1) * 2 * gutterX >= region
-                .getPrefWidth()) {
-                valid = true;
+            List<BoundingBox> boxes = fillGrid(toIndex(matrix, limitRow, limitCol), blocks, cellWidth, cellHeight, gutterX, gutterY);
+            for (int b = 0; boxes != null && b < boxes.size(); b++) {
+                BoundingBox box = boxes.get(b);
+                if (box != null) {
+                    fillMatrix(matrix, b + 1, box.getMinX(), box.getMinY(), box.getWidth(), box.getHeight());
+                }
             }
-            return valid;
+            return boxes;
+        }
+
+        /**
+         * @deprecated use {@link #getFreeArea(OccupancyIndex, int, int, BlockSize, double, double, double, double)} instead
+         */
+        @Deprecated
+        protected BoundingBox getFreeArea(int[][] matrix, int x, int y, Region block, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
+            return getFreeArea(toIndex(matrix, limitRow, limitCol), x, y, BlockSize.of(block), cellWidth, cellHeight, gutterX, gutterY);
         }
 
+        /**
+         * @deprecated use {@link #validWidth(BoundingBox, BlockSize, double, double, double)} instead
+         */
+        @Deprecated
+        protected boolean validWidth(BoundingBox box, Region region, double cellW, double gutterX, double gutterY) {
+            return validWidth(box, BlockSize.of(region), cellW, gutterX, gutterY);
+        }
+
+        /**
+         * @deprecated use {@link #validHeight(BoundingBox, BlockSize, double, double, double)} instead
+         */
+        @Deprecated
         protected boolean validHeight(BoundingBox box, Region region, double cellH, double gutterX, double gutterY) {
-            boolean valid = false;
-            if (region.getMinHeight() != -1 && box.getHeight() * cellH + (box.getHeight() - 1) * 2 * gutterY < region.getMinHeight()) {
-                return false;
-            }
+            return validHeight(box, BlockSize.of(region), cellH, gutterX, gutterY);
+        }
 
-            if (region.getPrefHeight() == USE_COMPUTED_SIZE && box.getHeight() * cellH + (box.getHeight() - 1) * 2 * gutterY >= region
-                .prefHeight(region.prefWidth(-1))) {
-                valid = true;
-            }
-            if (region.getPrefHeight() != USE_COMPUTED_SIZE && box.getHeight() * cellH + (box.getHeight() - 1) * 2 * gutterY >= region
-                .getPrefHeight()) {
-                valid = true;
-            }
-            return valid;
+        /**
+         * @deprecated use {@link BlockSize#of(Region)} and {@link BlockSize#getWidth()} instead
+         */
+        @Deprecated
+        protected double getBLockWidth(Region region) {
+            return BlockSize.of(region).getWidth();
         }
 
+        /**
+         * @deprecated use {@link BlockSize#of(Region)} and {@link BlockSize#getHeight()} instead
+         */
+        @Deprecated
+        protected double getBLockHeight(Region region) {
+            return BlockSize.of(region).getHeight();
+        }
+
+        /**
+         * @deprecated the grid is now tracked by an {@link OccupancyIndex}
+         */
+        @Deprecated
         protected int[][] fillMatrix(int[][] matrix, int id, double row, double col, double width, double height) {
             for (int x = (int) row; x < row + height; x++) {
                 for (int y = (int) col; y < col + width; y++) {
@@ -571,6 +809,238 @@ public class JFXMasonryPane extends Pane {
             return matrix;
         }
 
+        /*
+         * creates the occupancy index of a grid matrix, non zero cells are occupied
+         */
+        private static OccupancyIndex toIndex(int[][] matrix, int limitRow, int limitCol) {
+            int rows = Math.min(matrix.length, limitRow);
+            int columns = rows > 0 ? Math.min(matrix[0].length, limitCol) : 0;
+            OccupancyIndex index = new OccupancyIndex(columns, rows);
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    if (matrix[i][j] != 0) {
+                        index.occupy(i, j, 1, 1);
+                    }
+                }
+            }
+            return index;
+        }
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Block Size                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Size constraints of a block placed in the grid, either captured from a region
+     * or specified as a size hint. Layout modes only work on block sizes, so the grid
+     * can be computed without reading the scene graph.
+     */
+    public static final class BlockSize {
+        private final double minWidth;
+        private final double minHeight;
+        private final double prefWidth;
+        private final double prefHeight;
+
+        /**
+         * creates a block size hint without minimum size
+         *
+         * @param width  preferred width of the block
+         * @param height preferred height of the block
+         */
+        public BlockSize(double width, double height) {
+            this(-1, -1, width, height);
+        }
+
+        /**
+         * creates a block size
+         *
+         * @param minWidth   minimum width of the block, -1 if not specified
+         * @param minHeight  minimum height of the block, -1 if not specified
+         * @param prefWidth  preferred width of the block
+         * @param prefHeight preferred height of the block
+         */
+        public BlockSize(double minWidth, double minHeight, double prefWidth, double prefHeight) {
+            this.minWidth = minWidth;
+            this.minHeight = minHeight;
+            this.prefWidth = prefWidth;
+            this.prefHeight = prefHeight;
+        }
+
+        /**
+         * captures the size constraints of a region, must be called from the FX thread
+         *
+         * @param region to be captured
+         * @return the block size of the region
+         */
+        public static BlockSize of(Region region) {
+            double prefWidth = region.getPrefWidth() != USE_COMPUTED_SIZE ? region.getPrefWidth() : region.prefWidth(-1);
+            // the computed height depends on the width used for the block
+            double width = region.getMinWidth() != -1 ? region.getMinWidth() : prefWidth;
+            double prefHeight = region.getPrefHeight() != USE_COMPUTED_SIZE ? region.getPrefHeight() : region.prefHeight(width);
+            return new BlockSize(region.getMinWidth(), region.getMinHeight(), prefWidth, prefHeight);
+        }
+
+        public double getMinWidth() {
+            return minWidth;
+        }
+
+        public double getMinHeight() {
+            return minHeight;
+        }
+
+        public double getPrefWidth() {
+            return prefWidth;
+        }
+
+        public double getPrefHeight() {
+            return prefHeight;
+        }
+
+        /**
+         * @return the width used to compute the columns needed by the block
+         */
+        public double getWidth() {
+            return minWidth != -1 ? minWidth : prefWidth;
+        }
+
+        /**
+         * @return the height used to compute the rows needed by the block
+         */
+        public double getHeight() {
+            return minHeight != -1 ? minHeight : prefHeight;
+        }
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Occupancy Index                                                         *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Occupancy index of the masonry grid.
+     * <p>
+     * It keeps the skyline of each column (the row after which the column is free)
+     * and a bit set of the occupied columns for each row below the highest skyline.
+     * Rows are allocated when they get occupied, so the grid grows downward until
+     * the row limit is reached. Full rows at the top of the grid are skipped when
+     * looking for free cells.
+     */
+    public static final class OccupancyIndex {
+        private final int columns;
+        private final int rowLimit;
+        private final int[] skyline;
+        private final List<BitSet> rows = new ArrayList<>();
+        // rows before this one are fully occupied
+        private int firstOpenRow = 0;
+
+        /**
+         * creates an empty occupancy index
+         *
+         * @param columns  number of columns in the grid
+         * @param rowLimit maximum number of rows in the grid
+         */
+        public OccupancyIndex(int columns, int rowLimit) {
+            this.columns = Math.max(columns, 0);
+            this.rowLimit = rowLimit;
+            this.skyline = new int[this.columns];
+        }
+
+        public int getColumns() {
+            return columns;
+        }
+
+        public int getRowLimit() {
+            return rowLimit;
+        }
+
+        /**
+         * @return the number of rows that contain occupied cells
+         */
+        public int getHeight() {
+            return rows.size();
+        }
+
+        /**
+         * @return the index of the first row that contains a free cell
+         */
+        public int getFirstOpenRow() {
+            return firstOpenRow;
+        }
+
+        /**
+         * @return the row after which the specified column is free
+         */
+        public int getSkyline(int column) {
+            return skyline[column];
+        }
+
+        /**
+         * @return the lowest skyline of all columns
+         */
+        public int getLowestSkyline() {
+            int lowest = rows.size();
+            for (int height : skyline) {
+                lowest = Math.min(lowest, height);
+            }
+            return lowest;
+        }
+
+        /**
+         * @return true if all the cells of the specified area are free
+         */
+        public boolean isFree(int row, int column, int width, int height) {
+            final int end = (int) Math.min((long) row + height, rows.size());
+            for (int i = row; i < end; i++) {
+                int next = rows.get(i).nextSetBit(column);
+                if (next != -1 && next < column + width) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return the first free column in the row starting from the specified column,
+         * or -1 if there is none
+         */
+        public int nextFreeColumn(int row, int fromColumn) {
+            int next = row < rows.size() ? rows.get(row).nextClearBit(fromColumn) : fromColumn;
+            return next < columns ? next : -1;
+        }
+
+        /**
+         * @return the first occupied column in the row starting from the specified column,
+         * or -1 if there is none
+         */
+        public int nextOccupiedColumn(int row, int fromColumn) {
+            return row < rows.size() ? rows.get(row).nextSetBit(fromColumn) : -1;
+        }
+
+        /**
+         * marks the cells of the specified area as occupied
+         */
+        public void occupy(int row, int column, int width, int height) {
+            while (rows.size() < row + height) {
+                rows.add(new BitSet(columns));
+            }
+            for (int i = row; i < row + height; i++) {
+                rows.get(i).set(column, column + width);
+            }
+            for (int j = column; j < column + width; j++) {
+                skyline[j] = Math.max(skyline[j], row + height);
+            }
+            while (firstOpenRow < rows.size() && rows.get(firstOpenRow).nextClearBit(0) >= columns) {
+                firstOpenRow++;
+            }
+        }
+
+        void occupy(BoundingBox box) {
+            occupy((int) box.getMinX(), (int) box.getMinY(), (int) box.getWidth(), (int) box.getHeight());
+        }
     }
 
     /***************************************************************************
@@ -581,68 +1051,40 @@ public class JFXMasonryPane extends Pane {
 
     private static class MasonryLayout extends LayoutMode {
         @Override
-        public List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
-            int row = matrix.length;
-            if (row <= 0) {
+        public List<BoundingBox> fillGrid(OccupancyIndex index, List<BlockSize> blocks, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            if (index.getRowLimit() <= 0) {
                 return null;
             }
-            int col = matrix[0].length;
+            int col = index.getColumns();
             List<BoundingBox> boxes = new ArrayList<>();
 
-            for (int b = 0; b < children.size(); b++) {
-                Region block = children.get(b);
-                for (int i = 0; i < row; i++) {
-                    int old = boxes.size();
+            for (BlockSize block : blocks) {
+                BoundingBox placed = null;
+                for (int i = index.getLowestSkyline(); placed == null && i < index.getRowLimit(); i++) {
                     for (int j = 0; j < col; j++) {
-                        if (matrix[i][j] != 0) {
-                            continue;
-                        }
-
                         // masonry condition
-                        boolean isValidCell = true;
-                        for (int k = i + 1; k < row; k++) {
-                            if (matrix[k][j] != 0) {
-                                isValidCell = false;
-                                break;
-                            }
-                        }
-                        if (!isValidCell) {
+                        if (index.getSkyline(j) > i) {
                             continue;
                         }
-
-                        BoundingBox box = getFreeArea(matrix,
-                            i,
-                            j,
-                            block,
-                            cellWidth,
-                            cellHeight,
-                            limitRow,
-                            limitCol,
-                            gutterX,
-                            gutterY);
-                        if (!validWidth(box, block, cellWidth, gutterX, gutterY) || !validHeight(box,
+                        BoundingBox box = getFreeArea(index, i, j, block, cellWidth, cellHeight, gutterX, gutterY);
+                        if (validWidth(box, block, cellWidth, gutterX, gutterY) && validHeight(box,
                             block,
                             cellHeight,
                             gutterX,
                             gutterY)) {
-                            continue;
+                            placed = box;
+                            break;
                         }
-                        matrix = fillMatrix(matrix,
-                            b + 1,
-                            box.getMinX(),
-                            box.getMinY(),
-                            box.getWidth(),
-                            box.getHeight());
-                        boxes.add(box);
-                        break;
                     }
-                    if (boxes.size() != old) {
+                    if (i >= index.getHeight()) {
+                        // the remaining rows are empty, the block doesn't fit
                         break;
                     }
-                    if (i == row - 1) {
-                        boxes.add(null);
-                    }
                 }
+                if (placed != null) {
+                    index.occupy(placed);
+                }
+                boxes.add(placed);
             }
             return boxes;
         }
@@ -655,55 +1097,35 @@ public class JFXMasonryPane extends Pane {
      **************************************************************************/
     private static class BinPackingLayout extends LayoutMode {
         @Override
-        public List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
-            int row = matrix.length;
-            if (row <= 0) {
+        public List<BoundingBox> fillGrid(OccupancyIndex index, List<BlockSize> blocks, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            if (index.getRowLimit() <= 0) {
                 return null;
             }
-            int col = matrix[0].length;
             List<BoundingBox> boxes = new ArrayList<>();
 
-            for (int b = 0; b < children.size(); b++) {
-                Region block = children.get(b);
-                for (int i = 0; i < row; i++) {
-                    int old = boxes.size();
-                    for (int j = 0; j < col; j++) {
-                        if (matrix[i][j] != 0) {
-                            continue;
-                        }
-                        BoundingBox box = getFreeArea(matrix,
-                            i,
-                            j,
-                            block,
-                            cellWidth,
-                            cellHeight,
-                            limitRow,
-                            limitCol,
-                            gutterX,
-                            gutterY);
-                        if (!validWidth(box, block, cellWidth, gutterX, gutterY) || !validHeight(box,
+            for (BlockSize block : blocks) {
+                BoundingBox placed = null;
+                for (int i = index.getFirstOpenRow(); placed == null && i < index.getRowLimit(); i++) {
+                    for (int j = index.nextFreeColumn(i, 0); j != -1; j = index.nextFreeColumn(i, j + 1)) {
+                        BoundingBox box = getFreeArea(index, i, j, block, cellWidth, cellHeight, gutterX, gutterY);
+                        if (validWidth(box, block, cellWidth, gutterX, gutterY) && validHeight(box,
                             block,
                             cellHeight,
                             gutterX,
                             gutterY)) {
-                            continue;
+                            placed = box;
+                            break;
                         }
-                        matrix = fillMatrix(matrix,
-                            b + 1,
-                            box.getMinX(),
-                            box.getMinY(),
-                            box.getWidth(),
-                            box.getHeight());
-                        boxes.add(box);
-                        break;
                     }
-                    if (boxes.size() != old) {
+                    if (i >= index.getHeight()) {
+                        // the remaining rows are empty, the block doesn't fit
                         break;
                     }
-                    if (i == row - 1) {
-                        boxes.add(null);
-                    }
                 }
+                if (placed != null) {
+                    index.occupy(placed);
+                }
+                boxes.add(placed);
             }
             return boxes;
         }
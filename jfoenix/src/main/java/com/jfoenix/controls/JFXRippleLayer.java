@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.JFXRippler.RipplerPos;
+import javafx.beans.DefaultProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.StackPane;
+
+/**
+ * JFXRippleLayer is a container that draws the ripples of all the {@link JFXCanvasRippler}
+ * nodes inside its content into two shared canvases, one behind the content (for
+ * {@link RipplerPos#BACK} ripplers) and one in front of it (for {@link RipplerPos#FRONT}
+ * ripplers).
+ * <p>
+ * <b>Note:</b> the back canvas is behind the whole content, so the ripples of BACK ripplers
+ * are hidden by any opaque background between the layer and the rippler (e.g. the background
+ * of a card or a cell containing the rippler). Such ripplers should either use the FRONT
+ * position, or be a {@link JFXRippler} that draws its ripples behind its own control.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DefaultProperty(value = "content")
+public class JFXRippleLayer extends StackPane {
+
+    private final Canvas backCanvas = new Canvas();
+    private final Canvas frontCanvas = new Canvas();
+    private final CanvasRippleRenderer backRenderer = new CanvasRippleRenderer(backCanvas);
+    private final CanvasRippleRenderer frontRenderer = new CanvasRippleRenderer(frontCanvas);
+
+    /**
+     * creates an empty ripple layer
+     */
+    public JFXRippleLayer() {
+        this(null);
+    }
+
+    /**
+     * creates a ripple layer for the specified content
+     *
+     * @param content the node that contains the canvas ripplers
+     */
+    public JFXRippleLayer(Node content) {
+        initialize();
+        for (Canvas canvas : new Canvas[] {backCanvas, frontCanvas}) {
+            canvas.setManaged(false);
+            canvas.setMouseTransparent(true);
+        }
+        this.content.addListener((o, oldVal, newVal) -> {
+            if (newVal == null) {
+                getChildren().setAll(backCanvas, frontCanvas);
+            } else {
+                getChildren().setAll(backCanvas, newVal, frontCanvas);
+            }
+        });
+        getChildren().setAll(backCanvas, frontCanvas);
+        setContent(content);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void layoutChildren() {
+        super.layoutChildren();
+        layoutCanvas(backCanvas);
+        layoutCanvas(frontCanvas);
+    }
+
+    private void layoutCanvas(Canvas canvas) {
+        canvas.setWidth(getWidth());
+        canvas.setHeight(getHeight());
+        canvas.relocate(0, 0);
+    }
+
+    CanvasRippleRenderer getRenderer(RipplerPos position) {
+        return position == RipplerPos.BACK ? backRenderer : frontRenderer;
+    }
+
+    /**
+     * the content of the ripple layer
+     */
+    private ObjectProperty<Node> content = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<Node> contentProperty() {
+        return this.content;
+    }
+
+    /**
+     * @return the content of the ripple layer
+     */
+    public final Node getContent() {
+        return this.contentProperty().get();
+    }
+
+    /**
+     * sets the content of the ripple layer
+     *
+     * @param content the node that contains the canvas ripplers
+     */
+    public final void setContent(final Node content) {
+        this.contentProperty().set(content);
+    }
+
+    /**
+     * Initialize the style class to 'jfx-ripple-layer'.
+     * <p>
+     * This is the selector class from which CSS can be used to style
+     * this control.
+     */
+    private static final String DEFAULT_STYLE_CLASS = "jfx-ripple-layer";
+
+    private void initialize() {
+        this.getStyleClass().add(DEFAULT_STYLE_CLASS);
+    }
+}
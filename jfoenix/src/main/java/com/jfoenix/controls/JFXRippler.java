@@ -28,18 +28,21 @@ import com.sun.javafx.css.converters.SizeConverter;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
+import javafx.animation.PauseTransition;
 import javafx.animation.Timeline;
 import javafx.beans.DefaultProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.css.*;
 import javafx.event.Event;
+import javafx.event.EventHandler;
 import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.scene.CacheHint;
 import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Parent;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
@@ -48,6 +51,7 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.Shape;
 import javafx.util.Duration;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -72,13 +76,23 @@ public class JFXRippler extends StackPane {
         CIRCLE, RECT
     }
 
+    // null while a lazy rippler is idle
     protected RippleGenerator rippler;
     protected Pane ripplerPane;
     protected Node control;
 
     private static final double RIPPLE_MAX_RADIUS = 300;
+    // number of finished ripples kept by each generator to be reused
+    private static final int RIPPLE_POOL_SIZE = 4;
+    // ripples animated at the same time by all ripplers
+    private static int activeRipplesCount = 0;
+    private static int maxActiveRipples = 64;
 
     private boolean enabled = true;
+    private boolean lazy = false;
+    private PauseTransition idleTimer;
+    // idle time after which a lazy rippler drops its ripple generator
+    private static final Duration LAZY_IDLE_TIMEOUT = Duration.seconds(5);
     private Interpolator rippleInterpolator = Interpolator.SPLINE(0.0825,
         0.3025,
         0.0875,
@@ -128,7 +142,20 @@ public class JFXRippler extends StackPane {
      * @param pos     can be either FRONT/BACK (position the ripple effect infront of or behind the control)
      */
     public JFXRippler(Node control, RipplerMask mask, RipplerPos pos) {
+        this(control, mask, pos, false);
+    }
+
+    /**
+     * creates a rippler for the specified control, mask and position.
+     *
+     * @param control
+     * @param mask    can be either rectangle/cricle
+     * @param pos     can be either FRONT/BACK (position the ripple effect infront of or behind the control)
+     * @param lazy    if true, the ripple generator is only created when needed, see {@link #setLazy(boolean)}
+     */
+    public JFXRippler(Node control, RipplerMask mask, RipplerPos pos, boolean lazy) {
         initialize();
+        this.lazy = lazy;
         this.maskType.set(mask);
         this.position.set(pos);
         setControl(control);
@@ -149,9 +176,11 @@ public class JFXRippler extends StackPane {
             this.control = control;
 
             // create rippler panels
-            rippler = new RippleGenerator();
             ripplerPane = new StackPane();
-            ripplerPane.getChildren().add(rippler);
+            rippler = null;
+            if (!lazy) {
+                getGenerator();
+            }
 
             // set the control postion and listen if it's changed
             if (this.position.get() == RipplerPos.BACK) {
@@ -181,6 +210,8 @@ public class JFXRippler extends StackPane {
                 resetOverLay();
                 resetClip();
             });
+            maskType.addListener((o, oldVal, newVal) -> resetClip());
+            ripplerPane.borderProperty().addListener((o, oldVal, newVal) -> resetClip());
         }
     }
 
@@ -280,9 +311,10 @@ public class JFXRippler extends StackPane {
      */
     protected void createRipple(double x, double y) {
         if(!isRipplerDisabled()) {
-            rippler.setGeneratorCenterX(x);
-            rippler.setGeneratorCenterY(y);
-            rippler.createMouseRipple();
+            final RippleGenerator generator = getGenerator();
+            generator.setGeneratorCenterX(x);
+            generator.setGeneratorCenterY(y);
+            generator.createMouseRipple();
         }
     }
 
@@ -298,26 +330,93 @@ public class JFXRippler extends StackPane {
     }
 
     public void showOverlay() {
-        if (rippler.overlayRect != null) {
-            rippler.overlayRect.outAnimation.stop();
+        final RippleGenerator generator = getGenerator();
+        if (generator.overlayRect != null) {
+            generator.overlayRect.outAnimation.stop();
         }
-        rippler.createOverlay();
-        rippler.overlayRect.inAnimation.play();
+        generator.createOverlay();
+        generator.overlayRect.inAnimation.play();
     }
 
     public void hideOverlay() {
+        if (rippler == null) {
+            return;
+        }
         if (rippler.overlayRect != null) {
             rippler.overlayRect.inAnimation.stop();
         }
         if (rippler.overlayRect != null) {
             rippler.overlayRect.outAnimation.play();
         }
+        scheduleTearDown();
+    }
+
+    /**
+     * sets the lazy mode of the rippler. A lazy rippler only creates its ripple generator
+     * (the ripples and overlay container) on the first press or overlay request, and drops
+     * it once it has been idle for 5 seconds.
+     *
+     * @param lazy true to enable the lazy mode
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+        if (lazy) {
+            if (rippler != null && rippler.isIdle()) {
+                tearDown();
+            }
+        } else if (ripplerPane != null) {
+            getGenerator();
+        }
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * @return the ripple generator, it's created if needed
+     */
+    private RippleGenerator getGenerator() {
+        if (rippler == null) {
+            rippler = new RippleGenerator();
+            ripplerPane.getChildren().add(0, rippler);
+        }
+        if (idleTimer != null) {
+            idleTimer.stop();
+        }
+        return rippler;
+    }
+
+    private void scheduleTearDown() {
+        if (lazy && rippler != null) {
+            if (idleTimer == null) {
+                idleTimer = new PauseTransition(LAZY_IDLE_TIMEOUT);
+                idleTimer.setOnFinished((finish) -> tearDown());
+            }
+            idleTimer.playFromStart();
+        }
+    }
+
+    private void tearDown() {
+        if (rippler != null) {
+            if (rippler.isIdle()) {
+                rippler.clear();
+                ripplerPane.getChildren().remove(rippler);
+                rippler = null;
+            } else {
+                scheduleTearDown();
+            }
+        }
     }
 
     /**
      * Generates ripples on the screen every 0.3 seconds or whenever
      * the createRipple method is called. Ripples grow and fade out
-     * over 0.6 seconds
+     * over 0.6 seconds.
+     * <p>
+     * Ripple nodes and their animations are pooled per generator and reused
+     * by the next presses, and the number of ripples animated at the same time
+     * is capped globally (see {@link #setMaxActiveRipples(int)}).
      */
     final class RippleGenerator extends Group {
 
@@ -325,8 +424,13 @@ public class JFXRippler extends StackPane {
         private double generatorCenterY = 0;
         private OverLayRipple overlayRect;
         private AtomicBoolean generating = new AtomicBoolean(false);
-        private boolean cacheRipplerClip = false;
         private boolean resetClip = false;
+        // finished ripples, hidden and kept as children to be reused
+        private final ArrayDeque<Ripple> ripplePool = new ArrayDeque<>();
+        // ripple of the current press, null if the active ripples limit was reached
+        private Ripple currentRipple;
+        private int activeRipples = 0;
+        private final EventHandler<MouseEvent> releaseHandler = e -> releaseRipple();
 
         RippleGenerator() {
             // improve in performance, by preventing
@@ -335,89 +439,103 @@ public class JFXRippler extends StackPane {
         }
 
         void createMouseRipple() {
+            if (startRipple()) {
+                // create fade out transition for the ripple
+                ripplerPane.setOnMouseReleased(releaseHandler);
+            }
+        }
+
+        Runnable createManualRipple() {
+            if (startRipple()) {
+                return this::releaseRipple;
+            }
+            return () -> {
+            };
+        }
+
+        private boolean startRipple() {
             if (enabled) {
                 if (!generating.getAndSet(true)) {
                     // create overlay once then change its color later
                     createOverlay();
-                    if (this.getClip() == null || (getChildren().size() == 1 && !cacheRipplerClip) || resetClip) {
+                    // the clip is only rebuilt if the control bounds or the mask changed
+                    if (this.getClip() == null || resetClip) {
                         this.setClip(getMask());
                     }
                     this.resetClip = false;
 
-                    // create the ripple effect
-                    final Ripple ripple = new Ripple(generatorCenterX, generatorCenterY);
-                    getChildren().add(ripple);
+                    // reuse a pooled ripple if possible
+                    currentRipple = obtainRipple();
 
                     // animate the ripple
                     overlayRect.outAnimation.stop();
                     overlayRect.inAnimation.play();
-                    ripple.inAnimation.getAnimation().play();
-
-                    // create fade out transition for the ripple
-                    ripplerPane.setOnMouseReleased(e -> {
-                        if (generating.getAndSet(false)) {
-                            if (overlayRect != null) {
-                                overlayRect.inAnimation.stop();
-                            }
-                            ripple.inAnimation.getAnimation().stop();
-                            ripple.outAnimation = new CachedAnimation(new Timeline(new KeyFrame(Duration.millis(Math.min(
-                                800,
-                                (0.9 * 500) / ripple.getScaleX())), ripple.outKeyValues)), this);
-                            ripple.outAnimation.getAnimation().setOnFinished((event) -> getChildren().remove(ripple));
-                            ripple.outAnimation.getAnimation().play();
-                            if (overlayRect != null) {
-                                overlayRect.outAnimation.play();
-                            }
-                        }
-                    });
+                    if (currentRipple != null) {
+                        currentRipple.inAnimation.getAnimation().play();
+                    }
+                    return true;
                 }
             }
+            return false;
         }
 
-        Runnable createManualRipple() {
-            if (enabled) {
-                if (!generating.getAndSet(true)) {
-                    // create overlay once then change its color later
-                    createOverlay();
-                    if (this.getClip() == null || (getChildren().size() == 1 && !cacheRipplerClip) || resetClip) {
-                        this.setClip(getMask());
-                    }
-                    this.resetClip = false;
+        private void releaseRipple() {
+            if (generating.getAndSet(false)) {
+                if (overlayRect != null) {
+                    overlayRect.inAnimation.stop();
+                }
+                if (currentRipple != null) {
+                    currentRipple.playOutAnimation();
+                    currentRipple = null;
+                }
+                if (overlayRect != null) {
+                    overlayRect.outAnimation.play();
+                }
+                scheduleTearDown();
+            }
+        }
 
-                    // create the ripple effect
-                    final Ripple ripple = new Ripple(generatorCenterX, generatorCenterY);
-                    getChildren().add(ripple);
+        /**
+         * @return true if no ripple or overlay is shown
+         */
+        boolean isIdle() {
+            return !generating.get() && activeRipples == 0 && (overlayRect == null || overlayRect.getOpacity() == 0);
+        }
 
-                    // animate the ripple
-                    overlayRect.outAnimation.stop();
-                    overlayRect.inAnimation.play();
-                    ripple.inAnimation.getAnimation().play();
-
-                    return () -> {
-                        // create fade out transition for the ripple
-                        if (generating.getAndSet(false)) {
-                            if (overlayRect != null) {
-                                overlayRect.inAnimation.stop();
-                            }
-                            ripple.inAnimation.getAnimation().stop();
-                            ripple.outAnimation = new CachedAnimation(new Timeline(new KeyFrame(Duration.millis(Math.min(
-                                800,
-                                (0.9 * 500) / ripple.getScaleX())), ripple.outKeyValues)), this);
-                            ripple.outAnimation.getAnimation().setOnFinished((event) -> getChildren().remove(ripple));
-                            ripple.outAnimation.getAnimation().play();
-                            if (overlayRect != null) {
-                                overlayRect.outAnimation.play();
-                            }
-                        }
-                    };
-                }
+        private Ripple obtainRipple() {
+            if (activeRipplesCount >= maxActiveRipples) {
+                return null;
+            }
+            Ripple ripple = ripplePool.poll();
+            if (ripple == null) {
+                ripple = new Ripple();
+                getChildren().add(ripple);
+            }
+            ripple.reset(generatorCenterX, generatorCenterY);
+            activeRipples++;
+            activeRipplesCount++;
+            return ripple;
+        }
+
+        private void recycleRipple(Ripple ripple) {
+            ripple.setVisible(false);
+            activeRipples--;
+            activeRipplesCount--;
+            if (ripplePool.size() < RIPPLE_POOL_SIZE) {
+                ripplePool.push(ripple);
+            } else {
+                getChildren().remove(ripple);
             }
-            return () -> {
-            };
         }
 
+        /**
+         * the clip is cached until the control bounds or the mask change,
+         * if not cached it will be rebuilt by the next ripple
+         */
         void cacheRippleClip(boolean cached) {
-            cacheRipplerClip = cached;
+            if (!cached) {
+                resetClip = true;
+            }
         }
 
         void createOverlay() {
@@ -480,40 +598,18 @@ public class JFXRippler extends StackPane {
 
         private final class Ripple extends Circle {
 
-            KeyValue[] outKeyValues;
+            private static final double OUT_DURATION = 800;
+
             CachedAnimation outAnimation = null;
             CachedAnimation inAnimation = null;
-
-            private Ripple(double centerX, double centerY) {
-                super(centerX,
-                    centerY,
-                    ripplerRadius.get()
-                        .doubleValue() == Region.USE_COMPUTED_SIZE ? computeRippleRadius() : ripplerRadius.get()
-                        .doubleValue(),
-                    null);
-
-                KeyValue[] inKeyValues = new KeyValue[isRipplerRecenter() ? 4 : 2];
-                outKeyValues = new KeyValue[isRipplerRecenter() ? 5 : 3];
-
-                inKeyValues[0] = new KeyValue(scaleXProperty(), 0.9, rippleInterpolator);
-                inKeyValues[1] = new KeyValue(scaleYProperty(), 0.9, rippleInterpolator);
-
-                outKeyValues[0] = new KeyValue(this.scaleXProperty(), 1, rippleInterpolator);
-                outKeyValues[1] = new KeyValue(this.scaleYProperty(), 1, rippleInterpolator);
-                outKeyValues[2] = new KeyValue(this.opacityProperty(), 0, rippleInterpolator);
-
-                if (isRipplerRecenter()) {
-                    double dx = (control.getLayoutBounds().getWidth() / 2 - centerX) / 1.55;
-                    double dy = (control.getLayoutBounds().getHeight() / 2 - centerY) / 1.55;
-                    inKeyValues[2] = outKeyValues[3] = new KeyValue(translateXProperty(),
-                        Math.signum(dx) * Math.min(Math.abs(dx),
-                            this.getRadius() / 2),
-                        rippleInterpolator);
-                    inKeyValues[3] = outKeyValues[4] = new KeyValue(translateYProperty(),
-                        Math.signum(dy) * Math.min(Math.abs(dy),
-                            this.getRadius() / 2),
-                        rippleInterpolator);
-                }
+            private Paint fillSource;
+            // recenter translation reached when the ripple is fully grown
+            private double recenterX = 0;
+            private double recenterY = 0;
+
+            private Ripple() {
+                // the animations only change the scale and the opacity, so they are
+                // created once and replayed for each press
                 inAnimation = new CachedAnimation(new Timeline(new KeyFrame(Duration.ZERO,
                     new KeyValue(scaleXProperty(),
                         0,
@@ -521,55 +617,125 @@ public class JFXRippler extends StackPane {
                     new KeyValue(scaleYProperty(),
                         0,
                         rippleInterpolator),
-                    new KeyValue(translateXProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(translateYProperty(),
-                        0,
-                        rippleInterpolator),
                     new KeyValue(opacityProperty(),
                         1,
                         rippleInterpolator)
-                ), new KeyFrame(Duration.millis(900), inKeyValues)), this);
+                ), new KeyFrame(Duration.millis(900),
+                    new KeyValue(scaleXProperty(), 0.9, rippleInterpolator),
+                    new KeyValue(scaleYProperty(), 0.9, rippleInterpolator))), RippleGenerator.this);
+                outAnimation = new CachedAnimation(new Timeline(new KeyFrame(Duration.millis(OUT_DURATION),
+                    new KeyValue(scaleXProperty(), 1, rippleInterpolator),
+                    new KeyValue(scaleYProperty(), 1, rippleInterpolator),
+                    new KeyValue(opacityProperty(), 0, rippleInterpolator))), RippleGenerator.this);
+                outAnimation.getAnimation().setOnFinished((event) -> recycleRipple(this));
+                // the ripple moves toward the center while growing
+                scaleXProperty().addListener((o, oldVal, newVal) -> {
+                    if (recenterX != 0 || recenterY != 0) {
+                        double progress = Math.min(newVal.doubleValue() / 0.9, 1);
+                        setTranslateX(recenterX * progress);
+                        setTranslateY(recenterY * progress);
+                    }
+                });
 
                 setCache(true);
                 setCacheHint(CacheHint.SPEED);
                 setCacheShape(true);
                 setSnapToPixel(false);
+            }
+
+            /**
+             * prepares the ripple for a new press
+             */
+            private void reset(double centerX, double centerY) {
+                outAnimation.getAnimation().stop();
+                setCenterX(centerX);
+                setCenterY(centerY);
+                setRadius(ripplerRadius.get()
+                    .doubleValue() == Region.USE_COMPUTED_SIZE ? computeRippleRadius() : ripplerRadius.get()
+                    .doubleValue());
+                if (isRipplerRecenter()) {
+                    double dx = (control.getLayoutBounds().getWidth() / 2 - centerX) / 1.55;
+                    double dy = (control.getLayoutBounds().getHeight() / 2 - centerY) / 1.55;
+                    recenterX = Math.signum(dx) * Math.min(Math.abs(dx), this.getRadius() / 2);
+                    recenterY = Math.signum(dy) * Math.min(Math.abs(dy), this.getRadius() / 2);
+                } else {
+                    recenterX = 0;
+                    recenterY = 0;
+                }
                 setScaleX(0);
                 setScaleY(0);
-                if (ripplerFill.get() instanceof Color) {
-                    Color circleColor = new Color(((Color) ripplerFill.get()).getRed(),
-                        ((Color) ripplerFill.get()).getGreen(),
-                        ((Color) ripplerFill.get()).getBlue(),
-                        0.3);
-                    setStroke(circleColor);
-                    setFill(circleColor);
-                } else {
-                    setStroke(ripplerFill.get());
-                    setFill(ripplerFill.get());
+                setTranslateX(0);
+                setTranslateY(0);
+                setOpacity(1);
+                if (fillSource != ripplerFill.get()) {
+                    fillSource = ripplerFill.get();
+                    if (fillSource instanceof Color) {
+                        Color circleColor = new Color(((Color) fillSource).getRed(),
+                            ((Color) fillSource).getGreen(),
+                            ((Color) fillSource).getBlue(),
+                            0.3);
+                        setStroke(circleColor);
+                        setFill(circleColor);
+                    } else {
+                        setStroke(fillSource);
+                        setFill(fillSource);
+                    }
                 }
+                setVisible(true);
+            }
+
+            private void playOutAnimation() {
+                inAnimation.getAnimation().stop();
+                // fade out faster if the ripple is already grown
+                double duration = getScaleX() > 0 ? Math.min(OUT_DURATION, (0.9 * 500) / getScaleX()) : OUT_DURATION;
+                outAnimation.getAnimation().setRate(OUT_DURATION / duration);
+                outAnimation.getAnimation().play();
             }
         }
 
         public void clear() {
+            for (Node child : getChildren()) {
+                if (child instanceof Ripple) {
+                    ((Ripple) child).inAnimation.getAnimation().stop();
+                    ((Ripple) child).outAnimation.getAnimation().stop();
+                }
+            }
+            activeRipplesCount -= activeRipples;
+            activeRipples = 0;
+            ripplePool.clear();
+            currentRipple = null;
             getChildren().clear();
             generating.set(false);
         }
     }
 
     private void resetOverLay() {
-        if (rippler.overlayRect != null) {
-            rippler.overlayRect.inAnimation.stop();
-            final RippleGenerator.OverLayRipple oldOverlay = rippler.overlayRect;
-            rippler.overlayRect.outAnimation.setOnFinished((finish) -> rippler.getChildren().remove(oldOverlay));
-            rippler.overlayRect.outAnimation.play();
-            rippler.overlayRect = null;
+        if (rippler != null && rippler.overlayRect != null) {
+            final RippleGenerator generator = rippler;
+            generator.overlayRect.inAnimation.stop();
+            final RippleGenerator.OverLayRipple oldOverlay = generator.overlayRect;
+            generator.overlayRect.outAnimation.setOnFinished((finish) -> generator.getChildren().remove(oldOverlay));
+            generator.overlayRect.outAnimation.play();
+            generator.overlayRect = null;
         }
     }
 
-    private void resetClip() {
-        this.rippler.resetClip = true;
+    /**
+     * the clip of the ripples will be rebuilt by the next ripple
+     */
+    void resetClip() {
+        if (this.rippler != null) {
+            this.rippler.resetClip = true;
+        }
+    }
+
+    /**
+     * removes all ripples
+     */
+    void clearRipples() {
+        if (this.rippler != null) {
+            this.rippler.clear();
+        }
     }
 
     /***************************************************************************
@@ -813,10 +979,35 @@ public class JFXRippler extends StackPane {
         return StyleableProperties.STYLEABLES;
     }
 
+    /**
+     * sets the maximum number of ripples animated at the same time by all ripplers,
+     * presses beyond this limit only show the overlay.
+     *
+     * @param max the maximum number of active ripples, 64 by default
+     */
+    public static void setMaxActiveRipples(int max) {
+        maxActiveRipples = max;
+    }
+
+    /**
+     * @return the maximum number of ripples animated at the same time by all ripplers
+     */
+    public static int getMaxActiveRipples() {
+        return maxActiveRipples;
+    }
+
+    /**
+     * @return the number of ripples currently animated by all ripplers
+     */
+    public static int getActiveRipplesCount() {
+        return activeRipplesCount;
+    }
+
     public Runnable createManualRipple() {
-        rippler.setGeneratorCenterX(control.getLayoutBounds().getWidth() / 2);
-        rippler.setGeneratorCenterY(control.getLayoutBounds().getHeight() / 2);
-        return rippler.createManualRipple();
+        final RippleGenerator generator = getGenerator();
+        generator.setGeneratorCenterX(control.getLayoutBounds().getWidth() / 2);
+        generator.setGeneratorCenterY(control.getLayoutBounds().getHeight() / 2);
+        return generator.createManualRipple();
     }
 
 }
@@ -19,22 +19,26 @@
 
 package com.jfoenix.controls;
 
-import com.jfoenix.concurrency.JFXUtilities;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeAggregate;
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
 import com.jfoenix.skins.JFXTreeTableViewSkin;
-import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.control.*;
 import javafx.scene.input.MouseEvent;
 import javafx.util.Callback;
+import javafx.util.Duration;
 
 import java.util.*;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 /**
@@ -94,11 +98,15 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         this.predicate.addListener((o, oldVal, newVal) -> filter(newVal));
 
         this.rootProperty().addListener((o, oldVal, newVal) -> {
-            if (newVal != null) {
+            // grouped roots items count is computed by the grouping engine
+            if (newVal != null && !settingGroupedRoot) {
                 setCurrentItemsCount(count(getRoot()));
             }
         });
 
+        // group aggregates are computed while grouping
+        this.groupAggregates.addListener((ListChangeListener<RecursiveTreeAggregate<S>>) change -> reGroup());
+
         // compute the current items count
         setCurrentItemsCount(count(getRoot()));
     }
@@ -141,12 +149,41 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
     @Override
     public void sort() {
         getSelectionModel().clearSelection();
+        if (isParallelSort() && !getSortOrder().isEmpty()) {
+            sortEngine.sort().thenRun(() -> {
+                if (itemWasSelected) {
+                    getSelectionModel().select(0);
+                }
+            });
+            return;
+        }
         super.sort();
         if (itemWasSelected) {
             getSelectionModel().select(0);
         }
     }
 
+    // sorts the tree levels in parallel when parallel sort is enabled
+    private final TreeTableSortEngine<S> sortEngine = new TreeTableSortEngine<>(this);
+
+    /**
+     * if true, the table levels are sorted in parallel off the FX thread and applied
+     * in one commit, instead of using the sort policy (sort events are not fired).
+     */
+    private BooleanProperty parallelSort = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty parallelSortProperty() {
+        return this.parallelSort;
+    }
+
+    public final boolean isParallelSort() {
+        return this.parallelSortProperty().get();
+    }
+
+    public final void setParallelSort(final boolean parallelSort) {
+        this.parallelSortProperty().set(parallelSort);
+    }
+
 
     // Allows for multiple column Grouping based on the order of the TreeTableColumns
     // in this observableArrayList.
@@ -157,99 +194,125 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         return groupOrder;
     }
 
-    // semaphore is used to force mutual exclusion while group/ungroup operation
-    private Semaphore groupingSemaphore = new Semaphore(1);
+    // aggregates computed for each group, see RecursiveTreeObject#getAggregatedValue
+    private ObservableList<RecursiveTreeAggregate<S>> groupAggregates = FXCollections.observableArrayList();
+
+    /**
+     * @return the list of aggregates computed for each group when the table is grouped,
+     * they are maintained incrementally along with the groups items count
+     */
+    public final ObservableList<RecursiveTreeAggregate<S>> getGroupAggregates() {
+        return groupAggregates;
+    }
+
+    private boolean settingGroupedRoot = false;
 
-    // this method will regroup the treetableview according to columns group order
+    // keeps the group index of the table rows, and applies rows changes incrementally
+    private final TreeTableGroupingEngine<S> groupingEngine = new TreeTableGroupingEngine<>(this);
+
+    /**
+     * this method will regroup the treetableview according to columns group order.
+     * <p>
+     * The grouping is computed in the background, see {@link #groupAsync(TreeTableColumn[])}
+     *
+     * @param treeTableColumns the columns to be added to the group order
+     */
     public void group(TreeTableColumn<S, ?>... treeTableColumns) {
-        // init groups map
-        if (groupingSemaphore.tryAcquire()) {
-            if (groupOrder.size() == 0) {
-                groups = new HashMap<>();
-            }
-            try {
-                if (originalRoot == null) {
-                    originalRoot = getRoot();
-                }
-                for (TreeTableColumn<S, ?> treeTableColumn : treeTableColumns) {
-                    groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
-                }
-                groupOrder.addAll(treeTableColumns);
-                // update table ui
-                buildGroupedRoot(groups, null, 0);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-            groupingSemaphore.release();
-        }
+        groupAsync(treeTableColumns);
     }
 
-    private void refreshGroups(List<TreeTableColumn<S, ?>> groupColumns) {
-        groups = new HashMap<>();
-        for (TreeTableColumn<S, ?> treeTableColumn : groupColumns) {
-            groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+    /**
+     * this method will regroup the treetableview according to columns group order.
+     * <p>
+     * The grouping is computed in the background, if another group / ungroup request
+     * is made meanwhile, only the latest requested group order is computed.
+     *
+     * @param treeTableColumns the columns to be added to the group order
+     * @return a future that is completed once the table shows the requested group order,
+     * or a group order that supersedes it
+     */
+    public CompletableFuture<Void> groupAsync(TreeTableColumn<S, ?>... treeTableColumns) {
+        synchronized (groupOrder) {
+            if (originalRoot == null) {
+                originalRoot = getRoot();
+            }
+            groupOrder.addAll(treeTableColumns);
+            return groupingEngine.group(groupOrder, (RecursiveTreeItem<S>) originalRoot);
         }
-        groupOrder.addAll(groupColumns);
-        // update table ui
-        buildGroupedRoot(groups, null, 0);
     }
 
+    /**
+     * this method will remove the specified columns from the group order, then regroup the
+     * treetableview accordingly (or restore the ungrouped root if no column is left).
+     * <p>
+     * The grouping is computed in the background, see {@link #unGroupAsync(TreeTableColumn[])}
+     *
+     * @param treeTableColumns the columns to be removed from the group order
+     */
     public void unGroup(TreeTableColumn<S, ?>... treeTableColumns) {
-        if (groupingSemaphore.tryAcquire()) {
-            try {
-                if (groupOrder.size() > 0) {
-                    groupOrder.removeAll(treeTableColumns);
-                    List<TreeTableColumn<S, ?>> grouped = new ArrayList<>();
-                    grouped.addAll(groupOrder);
-                    groupOrder.clear();
-                    JFXUtilities.runInFXAndWait(() -> {
-                        ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
-                        sortOrder.addAll(getSortOrder());
-                        // needs to reset the children in order to update the parent
-                        List children = Arrays.asList(originalRoot.getChildren().toArray());
-                        originalRoot.getChildren().clear();
-                        originalRoot.getChildren().setAll(children);
-                        // reset the original root
-                        setRoot(originalRoot);
-                        getSelectionModel().select(0);
-                        getSortOrder().addAll(sortOrder);
-                        if (grouped.size() != 0) {
-                            refreshGroups(grouped);
-                        }
-                    });
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
+        unGroupAsync(treeTableColumns);
+    }
+
+    /**
+     * this method will remove the specified columns from the group order, then regroup the
+     * treetableview accordingly (or restore the ungrouped root if no column is left).
+     *
+     * @param treeTableColumns the columns to be removed from the group order
+     * @return a future that is completed once the table shows the requested group order,
+     * or a group order that supersedes it
+     */
+    public CompletableFuture<Void> unGroupAsync(TreeTableColumn<S, ?>... treeTableColumns) {
+        synchronized (groupOrder) {
+            if (groupOrder.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
             }
-            groupingSemaphore.release();
+            groupOrder.removeAll(treeTableColumns);
+            return groupingEngine.group(groupOrder, (RecursiveTreeItem<S>) originalRoot);
         }
     }
 
-    private Map group(TreeTableColumn<S, ?> column, Map parentGroup, Object key, RecursiveTreeItem<S> root) {
-        if (parentGroup.isEmpty()) {
-            parentGroup = groupByFunction(root.filteredItems, column);
-            return parentGroup;
-        }
-        Object value = parentGroup.get(key);
-        if (value instanceof List) {
-            Object newGroup = groupByFunction((List) value, column);
-            parentGroup.put(key, newGroup);
-            return parentGroup;
-        } else if (value instanceof Map) {
-            for (Object childKey : ((Map) value).keySet()) {
-                value = group(column, (Map) value, childKey, root);
-            }
-            parentGroup.put(key, value);
-            return parentGroup;
-        } else if (key == null) {
-            for (Object childKey : parentGroup.keySet()) {
-                parentGroup = group(column, parentGroup, childKey, root);
-            }
-            return parentGroup;
+    /*
+     * called by the grouping engine on the FX thread to show
+     * the original root once all columns are ungrouped
+     */
+    void restoreOriginalRoot() {
+        ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
+        sortOrder.addAll(getSortOrder());
+        // needs to reset the children in order to update the parent
+        List children = Arrays.asList(originalRoot.getChildren().toArray());
+        originalRoot.getChildren().clear();
+        originalRoot.getChildren().setAll(children);
+        // reset the original root
+        setRoot(originalRoot);
+        getSelectionModel().select(0);
+        getSortOrder().addAll(sortOrder);
+    }
+
+    /*
+     * called by the grouping engine on the FX thread to show
+     * the grouped root once its group index is built
+     */
+    void setGroupedRoot(RecursiveTreeItem<S> groupedRoot, int itemsCount) {
+        ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
+        sortOrder.addAll(getSortOrder());
+        settingGroupedRoot = true;
+        try {
+            setRoot(groupedRoot);
+        } finally {
+            settingGroupedRoot = false;
         }
-        return parentGroup;
+        getSortOrder().addAll(sortOrder);
+        getSelectionModel().select(0);
+        setCurrentItemsCount(itemsCount);
     }
 
+    /**
+     * groups the specified items by their value of the specified column.
+     *
+     * @deprecated the grouping engine computes the groups incrementally, it only calls
+     * this method with a single item to get its group key
+     */
+    @Deprecated
     protected Map groupByFunction(List<TreeItem<S>> items, TreeTableColumn<S, ?> column) {
         Map<Object, List<TreeItem<S>>> map = new HashMap<>();
         for (TreeItem<S> child : items) {
@@ -261,54 +324,17 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
     }
 
     /*
-     * this method is used to update tree items and set the new root
-     * after grouping the data model
+     * called by the grouping engine in the background to get the group key of an item,
+     * through groupByFunction so the subclasses that override it are still used
      */
-    private void buildGroupedRoot(Map groupedItems, RecursiveTreeItem parent, int groupIndex) {
-        boolean setRoot = false;
-        if (parent == null) {
-            parent = new RecursiveTreeItem<>(new RecursiveTreeObject(), RecursiveTreeObject::getChildren);
-            setRoot = true;
-        }
-
-        for (Object key : groupedItems.keySet()) {
-            RecursiveTreeObject groupItem = new RecursiveTreeObject<>();
-            groupItem.setGroupedValue(key);
-            groupItem.setGroupedColumn(groupOrder.get(groupIndex));
-
-            RecursiveTreeItem node = new RecursiveTreeItem<>(groupItem, RecursiveTreeObject::getChildren);
-            // TODO: need to be removed once the selection issue is fixed
-            node.expandedProperty().addListener((o, oldVal, newVal) -> {
-                getSelectionModel().clearSelection();
-            });
-
-            parent.originalItems.add(node);
-            parent.getChildren().add(node);
-
-            Object children = groupedItems.get(key);
-            if (children instanceof List) {
-                node.originalItems.addAll((List) children);
-                node.getChildren().addAll((List) children);
-            } else if (children instanceof Map) {
-                buildGroupedRoot((Map) children, node, groupIndex + 1);
-            }
-        }
-
-        // update ui
-        if (setRoot) {
-            final RecursiveTreeItem<S> newParent = parent;
-            JFXUtilities.runInFX(() -> {
-                ArrayList<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>();
-                sortOrder.addAll(getSortOrder());
-                setRoot(newParent);
-                getSortOrder().addAll(sortOrder);
-                getSelectionModel().select(0);
-            });
-        }
+    @SuppressWarnings("deprecation")
+    Object getGroupKey(TreeItem<S> item, TreeTableColumn<S, ?> column) {
+        Map<?, ?> groups = groupByFunction(Collections.singletonList(item), column);
+        return groups == null || groups.isEmpty() ? null : groups.keySet().iterator().next();
     }
 
-
-    private Timer t;
+    // debounces predicate changes and runs the filter passes in the background
+    private final TreeTableFilterPipeline<S> filterPipeline = new TreeTableFilterPipeline<>(this);
 
     /**
      * this method will filter the treetable and it
@@ -317,34 +343,48 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         if (originalRoot == null) {
             originalRoot = getRoot();
         }
-        if (t != null) {
-            t.cancel();
-            t.purge();
+        filterPipeline.filter(predicate, getFilterExecutor(), getFilterDelay());
+    }
+
+    /*
+     * called by the filter pipeline to filter the ungrouped root,
+     * grouped data is rebuilt by reGroup
+     */
+    void applyFilter(Predicate<TreeItem<S>> predicate) {
+        groupingEngine.runSuspended(() -> ((RecursiveTreeItem<S>) originalRoot).filter(predicate));
+    }
+
+    /*
+     * called by the filter pipeline on the FX thread once the latest filter pass is done
+     */
+    void filterApplied() {
+        getSelectionModel().select(0);
+        // grouped items count is updated by the grouping engine
+        if (groupOrder.isEmpty()) {
+            setCurrentItemsCount(count(getRoot()));
         }
-        t = new Timer();
-        t.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                //  filter the original root and regroup the data
-                new Thread(() -> {
-                    // filter the ungrouped root
-                    ((RecursiveTreeItem) originalRoot).setPredicate(predicate);
-                    // regroup the data
-                    reGroup();
-                    Platform.runLater(() -> {
-                        getSelectionModel().select(0);
-                        setCurrentItemsCount(count(getRoot()));
-                    });
-                }).start();
-            }
-        }, 500);
     }
 
+    /**
+     * this method will regroup the treetableview according to the current group order,
+     * the grouping is computed in the background
+     */
     public void reGroup() {
-        if (!groupOrder.isEmpty()) {
-            ArrayList<TreeTableColumn<S, ?>> tempGroups = new ArrayList<>(groupOrder);
-            groupOrder.clear();
-            group(tempGroups.toArray(new TreeTableColumn[tempGroups.size()]));
+        reGroupAsync();
+    }
+
+    /**
+     * this method will regroup the treetableview according to the current group order
+     *
+     * @return a future that is completed once the table shows the regrouped data,
+     * or a group order that supersedes it
+     */
+    public CompletableFuture<Void> reGroupAsync() {
+        synchronized (groupOrder) {
+            if (groupOrder.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return groupingEngine.group(groupOrder, (RecursiveTreeItem<S>) originalRoot);
         }
     }
 
@@ -362,8 +402,41 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         this.predicateProperty().set(predicate);
     }
 
+    /**
+     * the executor used to run the filter passes, if null an internal daemon thread pool is used
+     */
+    private ObjectProperty<Executor> filterExecutor = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<Executor> filterExecutorProperty() {
+        return this.filterExecutor;
+    }
+
+    public final Executor getFilterExecutor() {
+        return this.filterExecutorProperty().get();
+    }
+
+    public final void setFilterExecutor(final Executor filterExecutor) {
+        this.filterExecutorProperty().set(filterExecutor);
+    }
+
+    /**
+     * the delay to wait for further predicate changes before filtering the table
+     */
+    private ObjectProperty<Duration> filterDelay = new SimpleObjectProperty<>(Duration.millis(500));
+
+    public final ObjectProperty<Duration> filterDelayProperty() {
+        return this.filterDelay;
+    }
+
+    public final Duration getFilterDelay() {
+        return this.filterDelayProperty().get();
+    }
+
+    public final void setFilterDelay(final Duration filterDelay) {
+        this.filterDelayProperty().set(filterDelay);
+    }
+
     private IntegerProperty currentItemsCount = new SimpleIntegerProperty(0);
-    private Map<Object, Map<Object, ?>> groups;
 
     /**
      * @return the initial tree items count ( add / remove items should be handled manually for now )
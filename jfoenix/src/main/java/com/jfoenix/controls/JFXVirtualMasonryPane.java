@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Dimension2D;
+import javafx.scene.Parent;
+import javafx.scene.control.ScrollPane;
+import javafx.util.Callback;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A virtualized {@link JFXMasonryPane}, driven by a list of items and a cell factory.
+ * <p>
+ * The grid is computed for all items from their size hints, without creating any node.
+ * Cells are only created for the items visible in the viewport of the enclosing
+ * {@link ScrollPane} (or {@link JFXScrollPane}), and are recycled while scrolling.
+ * The layout mode, cell size, spacing and limits properties of the masonry pane apply
+ * the same way, while children animations are not supported.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JFXVirtualMasonryPane<T> extends JFXMasonryPane {
+
+    private HashMap<Integer, JFXMasonryCell<T>> cells = new HashMap<>();
+    private final ArrayDeque<JFXMasonryCell<T>> pile = new ArrayDeque<>();
+    private boolean updatingCells = false;
+    private ScrollPane scrollPane;
+
+    // these variables are computed when the grid is invalidated
+    private OccupancyIndex occupancy;
+    private List<BoundingBox> boxes = new ArrayList<>();
+    private int firstDirtyItem = 0;
+    // item indexes sorted by their first row
+    private int[] rowOrder = new int[0];
+    private int[] rowTops = new int[0];
+    private int maxRowSpan = 0;
+    private double contentWidth = -1;
+    private double contentHeight = -1;
+
+    private final ListChangeListener<T> itemsListener = c -> {
+        while (c.next()) {
+            firstDirtyItem = Math.min(firstDirtyItem, c.getFrom());
+        }
+        requestLayout();
+    };
+
+    private final InvalidationListener viewportListener = o -> requestLayout();
+
+    /**
+     * Constructs an empty JFXVirtualMasonryPane
+     */
+    public JFXVirtualMasonryPane() {
+        this(FXCollections.observableArrayList());
+    }
+
+    /**
+     * Constructs a new JFXVirtualMasonryPane showing the specified items
+     *
+     * @param items to be shown in the pane
+     */
+    public JFXVirtualMasonryPane(ObservableList<T> items) {
+        this.items.addListener((o, oldVal, newVal) -> {
+            if (oldVal != null) {
+                oldVal.removeListener(itemsListener);
+            }
+            if (newVal != null) {
+                newVal.addListener(itemsListener);
+            }
+            firstDirtyItem = 0;
+            requestLayout();
+        });
+        setItems(items);
+
+        InvalidationListener gridListener = o -> {
+            occupancy = null;
+            requestLayout();
+        };
+        this.cellWidthProperty().addListener(gridListener);
+        this.cellHeightProperty().addListener(gridListener);
+        this.hSpacingProperty().addListener(gridListener);
+        this.vSpacingProperty().addListener(gridListener);
+        this.limitColumnProperty().addListener(gridListener);
+        this.limitRowProperty().addListener(gridListener);
+        this.layoutModeProperty().addListener(gridListener);
+        this.sizeHintFactory.addListener(gridListener);
+        this.cellFactory.addListener(o -> {
+            cells.clear();
+            pile.clear();
+            getChildren().clear();
+            requestLayout();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void layoutChildren() {
+        updatingCells = true;
+        try {
+            updateScrollPane();
+            updateGrid();
+            updateCells();
+        } finally {
+            updatingCells = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void requestLayout() {
+        if (updatingCells) {
+            return;
+        }
+        super.requestLayout();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double computePrefHeight(double width) {
+        return Math.max(contentHeight, 0);
+    }
+
+    private void updateScrollPane() {
+        Parent parent = getParent();
+        while (parent != null && !(parent instanceof ScrollPane)) {
+            parent = parent.getParent();
+        }
+        if (parent != scrollPane) {
+            if (scrollPane != null) {
+                scrollPane.vvalueProperty().removeListener(viewportListener);
+                scrollPane.hvalueProperty().removeListener(viewportListener);
+                scrollPane.viewportBoundsProperty().removeListener(viewportListener);
+            }
+            scrollPane = (ScrollPane) parent;
+            if (scrollPane != null) {
+                scrollPane.vvalueProperty().addListener(viewportListener);
+                scrollPane.hvalueProperty().addListener(viewportListener);
+                scrollPane.viewportBoundsProperty().addListener(viewportListener);
+            }
+        }
+    }
+
+    /**
+     * places the items that changed since the last layout, using their size hints
+     */
+    private void updateGrid() {
+        int col, row;
+        col = (int) Math.floor(this.getWidth() / (getCellWidth() + 2 * getHSpacing()));
+        col = getLimitColumn() != -1 && col > getLimitColumn() ? getLimitColumn() : col;
+        row = getLimitRow() != -1 ? getLimitRow() : Integer.MAX_VALUE;
+
+        final List<T> items = getItems() == null ? Collections.emptyList() : getItems();
+        if (occupancy == null || col != occupancy.getColumns()) {
+            occupancy = new OccupancyIndex(col, row);
+            boxes = new ArrayList<>();
+            firstDirtyItem = 0;
+        } else if (firstDirtyItem >= items.size() && items.size() == boxes.size()) {
+            return;
+        }
+
+        final int firstItem = Math.min(firstDirtyItem, Math.min(items.size(), boxes.size()));
+        if (firstItem < boxes.size()) {
+            boxes = new ArrayList<>(boxes.subList(0, firstItem));
+            occupancy = new OccupancyIndex(col, row);
+            for (BoundingBox box : boxes) {
+                if (box != null) {
+                    occupancy.occupy(box);
+                }
+            }
+        }
+        List<BlockSize> sizes = new ArrayList<>(items.size() - firstItem);
+        for (int i = firstItem; i < items.size(); i++) {
+            sizes.add(getSizeHint(items.get(i)));
+        }
+        List<BoundingBox> placedBoxes = getLayoutMode()
+            .fillGrid(occupancy, sizes, getCellWidth(), getCellHeight(), getHSpacing(), getVSpacing());
+        if (placedBoxes == null) {
+            placedBoxes = Collections.nCopies(sizes.size(), null);
+        }
+        boxes.addAll(placedBoxes);
+        firstDirtyItem = Integer.MAX_VALUE;
+        updateRowIndex();
+    }
+
+    private BlockSize getSizeHint(T item) {
+        final Callback<T, Dimension2D> factory = getSizeHintFactory();
+        final Dimension2D hint = factory == null ? null : factory.call(item);
+        if (hint == null) {
+            return new BlockSize(getCellWidth(), getCellHeight());
+        }
+        return new BlockSize(hint.getWidth(), hint.getHeight());
+    }
+
+    private void updateRowIndex() {
+        final long[] keys = new long[boxes.size()];
+        int count = 0;
+        maxRowSpan = 0;
+        contentWidth = -1;
+        contentHeight = -1;
+        for (int i = 0; i < boxes.size(); i++) {
+            BoundingBox box = boxes.get(i);
+            if (box != null) {
+                keys[count++] = ((long) box.getMinX() << 32) | i;
+                maxRowSpan = Math.max(maxRowSpan, (int) box.getHeight());
+                contentWidth = Math.max(contentWidth, getBlockX(box) + getBlockWidth(box));
+                contentHeight = Math.max(contentHeight, getBlockY(box) + getBlockHeight(box));
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        rowOrder = new int[count];
+        rowTops = new int[count];
+        for (int i = 0; i < count; i++) {
+            rowOrder[i] = (int) keys[i];
+            rowTops[i] = (int) (keys[i] >>> 32);
+        }
+        this.setMinSize(contentWidth, contentHeight);
+    }
+
+    /**
+     * assigns cells to the items inside the viewport, and recycles the others
+     */
+    private void updateCells() {
+        final List<T> items = getItems() == null ? Collections.emptyList() : getItems();
+        final Bounds visible = getVisibleBounds();
+        final double rowHeight = getCellHeight() + 2 * getVSpacing();
+        final int firstRow = Math.max((int) Math.floor(visible.getMinY() / rowHeight) - maxRowSpan + 1, 0);
+        final int lastRow = (int) Math.floor(visible.getMaxY() / rowHeight);
+
+        HashMap<Integer, JFXMasonryCell<T>> visibleCells = new HashMap<>();
+        for (int k = lowerBound(rowTops, firstRow); k < rowTops.length && rowTops[k] <= lastRow; k++) {
+            final int index = rowOrder[k];
+            final BoundingBox box = boxes.get(index);
+            final double x = getBlockX(box);
+            final double y = getBlockY(box);
+            final double width = getBlockWidth(box);
+            final double height = getBlockHeight(box);
+            if (!visible.intersects(x, y, width, height)) {
+                continue;
+            }
+            JFXMasonryCell<T> cell = cells.remove(index);
+            if (cell == null) {
+                cell = obtainCell();
+            }
+            cell.updateIndex(index, items.get(index));
+            cell.resizeRelocate(x, y, width, height);
+            visibleCells.put(index, cell);
+        }
+        // recycle the cells that are no longer visible
+        for (JFXMasonryCell<T> cell : cells.values()) {
+            cell.release();
+            cell.setVisible(false);
+            pile.push(cell);
+        }
+        cells = visibleCells;
+    }
+
+    private JFXMasonryCell<T> obtainCell() {
+        JFXMasonryCell<T> cell = pile.poll();
+        if (cell == null) {
+            cell = getCellFactory() == null ? new JFXMasonryCell<>() : getCellFactory().call(this);
+            getChildren().add(cell);
+        }
+        cell.setVisible(true);
+        return cell;
+    }
+
+    /**
+     * @return the bounds of the pane that are visible in the enclosing scroll pane
+     */
+    private Bounds getVisibleBounds() {
+        if (scrollPane != null) {
+            Bounds viewport = sceneToLocal(scrollPane.localToScene(scrollPane.getLayoutBounds()));
+            if (viewport != null) {
+                return viewport;
+            }
+        }
+        return getLayoutBounds();
+    }
+
+    private static int lowerBound(int[] values, int key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the number of cells created by the pane
+     */
+    public int getCellCount() {
+        return cells.size() + pile.size();
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * the items shown in the pane
+     */
+    private ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<ObservableList<T>> itemsProperty() {
+        return this.items;
+    }
+
+    /**
+     * @return the items shown in the pane
+     */
+    public final ObservableList<T> getItems() {
+        return this.itemsProperty().get();
+    }
+
+    /**
+     * sets the items shown in the pane
+     *
+     * @param items to be shown
+     */
+    public final void setItems(final ObservableList<T> items) {
+        this.itemsProperty().set(items);
+    }
+
+
+    /**
+     * the factory used to create the pane cells, if null {@link JFXMasonryCell} is used
+     */
+    private ObjectProperty<Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>>> cellFactory = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>>> cellFactoryProperty() {
+        return this.cellFactory;
+    }
+
+    /**
+     * @return the cell factory of the pane
+     */
+    public final Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>> getCellFactory() {
+        return this.cellFactoryProperty().get();
+    }
+
+    /**
+     * sets the cell factory of the pane
+     *
+     * @param cellFactory used to create the pane cells
+     */
+    public final void setCellFactory(final Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>> cellFactory) {
+        this.cellFactoryProperty().set(cellFactory);
+    }
+
+
+    /**
+     * returns the preferred size of an item cell, it's used to place the items in the
+     * grid without creating their cells. If null, or if it returns null, the item
+     * takes a single grid cell.
+     */
+    private ObjectProperty<Callback<T, Dimension2D>> sizeHintFactory = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<Callback<T, Dimension2D>> sizeHintFactoryProperty() {
+        return this.sizeHintFactory;
+    }
+
+    /**
+     * @return the size hint factory of the pane
+     */
+    public final Callback<T, Dimension2D> getSizeHintFactory() {
+        return this.sizeHintFactoryProperty().get();
+    }
+
+    /**
+     * sets the size hint factory of the pane
+     *
+     * @param sizeHintFactory returns the preferred size of an item cell
+     */
+    public final void setSizeHintFactory(final Callback<T, Dimension2D> sizeHintFactory) {
+        this.sizeHintFactoryProperty().set(sizeHintFactory);
+    }
+}
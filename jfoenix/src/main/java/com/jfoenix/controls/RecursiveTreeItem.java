@@ -22,7 +22,10 @@ package com.jfoenix.controls;
 import com.jfoenix.concurrency.JFXUtilities;
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
 import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -32,6 +35,16 @@ import javafx.scene.Node;
 import javafx.scene.control.TreeItem;
 import javafx.util.Callback;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Predicate;
 
 /**
@@ -46,6 +59,17 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
 
     private Callback<RecursiveTreeObject<T>, ObservableList<T>> childrenFactory;
 
+    /**
+     * whether children tree items are created on demand
+     */
+    private final boolean lazy;
+
+    /**
+     * whether the children tree items are created, lazy tree items are materialized
+     * when expanded or filtered for the first time
+     */
+    private volatile boolean materialized;
+
     /**
      * predicate used to filter nodes
      */
@@ -61,6 +85,44 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      */
     FilteredList<TreeItem<T>> filteredItems;
 
+    /**
+     * tree items of the children values, keyed by identity
+     */
+    private final Map<T, TreeItem<T>> itemsMap = new IdentityHashMap<>();
+
+    /**
+     * predicate binding of the filtered items
+     */
+    private ObjectBinding<Predicate<TreeItem<T>>> predicateBinding;
+
+    /**
+     * filtered children computed by {@link #filter(Predicate)}, only set while committing its result
+     */
+    private Set<TreeItem<T>> filterResult;
+
+    /**
+     * list of children values returned by the children factory
+     */
+    ObservableList<T> childrenValues;
+
+    /**
+     * keeps the children tree items in sync with the children values
+     */
+    private final ListChangeListener<T> childrenListener = change -> {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permuteChildren(change);
+                continue;
+            }
+            if (change.wasRemoved()) {
+                removeChildren(change.getFrom(), change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                addChildren(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    };
+
     /***************************************************************************
      *                                                                         *
      * Constructors                                                            *
@@ -94,9 +156,24 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      * @param func    is the callback used to retrieve the children of the current tree item
      */
     public RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func) {
+        this(value, graphic, func, false);
+    }
+
+    /**
+     * creates recursive tree item for a specified value and a graphic node
+     *
+     * @param value   of the tree item
+     * @param graphic node
+     * @param func    is the callback used to retrieve the children of the current tree item
+     * @param lazy    if true, the children tree items are only created when the tree item is expanded
+     *                or filtered for the first time (the same applies to the descendants)
+     */
+    public RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                             boolean lazy) {
         super(value, graphic);
         this.childrenFactory = func;
-        init(value);
+        this.lazy = lazy;
+        init(value, !lazy);
     }
 
     /**
@@ -106,29 +183,71 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      * @param func     is the callback used to retrieve the children of the current tree item
      */
     public RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func) {
+        this(dataList, func, false);
+    }
+
+    /**
+     * creates recursive tree item from a data list
+     *
+     * @param dataList of values
+     * @param func     is the callback used to retrieve the children of the current tree item
+     * @param lazy     if true, the tree items of the data list values only create their children
+     *                 tree items when expanded or filtered for the first time
+     */
+    public RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                             boolean lazy) {
         RecursiveTreeObject<T> root = new RecursiveTreeObject<>();
         root.setChildren(dataList);
         this.childrenFactory = func;
-        init(root);
+        this.lazy = lazy;
+        init(root, true);
     }
 
-    private void init(RecursiveTreeObject<T> value) {
+    private void init(RecursiveTreeObject<T> value, boolean materialize) {
 
-        if (value != null) {
+        if (value != null && materialize) {
             addChildrenListener(value);
+        } else {
+            filteredItems = new FilteredList<>(originalItems, (TreeItem<T> t) -> true);
         }
+        materialized = materialize;
         valueProperty().addListener((o, oldValue, newValue) -> {
-            if (newValue != null) {
+            if (newValue != null && materialized) {
                 addChildrenListener(newValue);
+            } else if (!materialized) {
+                // children values of the previous value, looked up by isLeaf
+                childrenValues = null;
             }
         });
 
-        this.filteredItems.predicateProperty().bind(Bindings.createObjectBinding(() ->
+        if (!materialized) {
+            // change listeners are notified after the predicate binding, so the filtered items
+            // are filtered again once the children tree items are created
+            predicate.addListener((o, oldVal, newVal) -> {
+                if (!materialized) {
+                    materialize();
+                    predicateBinding.invalidate();
+                }
+            });
+            expandedProperty().addListener((o, oldVal, newVal) -> {
+                if (newVal && !materialized) {
+                    materialize();
+                    JFXUtilities.runInFX(() -> getChildren().setAll(filteredItems));
+                }
+            });
+        }
+
+        predicateBinding = Bindings.createObjectBinding(() ->
             (Predicate<TreeItem<T>>) child -> {
+                // Use the result of the filter pass if any
+                if (filterResult != null) {
+                    return filterResult.contains(child);
+                }
                 // Set the predicate of child items to force filtering
                 if (child instanceof RecursiveTreeItem) {
-                    if (!((RecursiveTreeItem) child).originalItems.isEmpty()) {
-                        RecursiveTreeItem<T> filterableChild = (RecursiveTreeItem<T>) child;
+                    RecursiveTreeItem<T> filterableChild = (RecursiveTreeItem<T>) child;
+                    // lazy tree items are materialized once filtered
+                    if (!filterableChild.originalItems.isEmpty() || !filterableChild.materialized) {
                         filterableChild.setPredicate(RecursiveTreeItem.this.predicate.get());
                     }
                 }
@@ -147,7 +266,8 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
                 }
                 // Otherwise ask the TreeItemPredicate
                 return RecursiveTreeItem.this.predicate.get().test(child);
-            }, this.predicate));
+            }, this.predicate);
+        this.filteredItems.predicateProperty().bind(predicateBinding);
 
 
         this.filteredItems.predicateProperty().addListener((o, oldVal, newVal) -> {
@@ -161,41 +281,193 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
 
     private void addChildrenListener(RecursiveTreeObject<T> value) {
         final ObservableList<T> children = childrenFactory.call(value);
+        childrenValues = children;
         originalItems = FXCollections.observableArrayList();
+        itemsMap.clear();
         for (T child : children) {
-            originalItems.add(new RecursiveTreeItem<>(child, getGraphic(), childrenFactory));
+            originalItems.add(createChildItem(child));
         }
 
         filteredItems = new FilteredList<>(originalItems, (TreeItem<T> t) -> true);
 
         this.getChildren().addAll(originalItems);
 
-        children.addListener((ListChangeListener<T>) change -> {
-            while (change.next()) {
-                if (change.wasAdded()) {
-                    change.getAddedSubList().forEach(t -> {
-                        RecursiveTreeItem<T> newItem = new RecursiveTreeItem<>(t, getGraphic(), childrenFactory);
-                        RecursiveTreeItem.this.getChildren().add(newItem);
-                        originalItems.add(newItem);
-                    });
+        children.addListener(childrenListener);
+    }
+
+    /*
+     * creates the children tree items of a lazy tree item
+     */
+    private synchronized void materialize() {
+        if (materialized) {
+            return;
+        }
+        materialized = true;
+        final T value = getValue();
+        if (value == null) {
+            return;
+        }
+        final ObservableList<T> children = childrenValues != null ? childrenValues : childrenFactory.call(value);
+        childrenValues = children;
+        final List<TreeItem<T>> items = new ArrayList<>(children.size());
+        for (T child : children) {
+            items.add(createChildItem(child));
+        }
+        // the filtered items are updated accordingly
+        originalItems.addAll(items);
+        children.addListener(childrenListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A lazy tree item that is not materialized yet only checks whether its
+     * value has children, without creating their tree items. The children values
+     * list is retrieved once, then reused until the tree item is materialized.
+     */
+    @Override
+    public boolean isLeaf() {
+        if (!materialized) {
+            final T value = getValue();
+            if (value == null) {
+                return true;
+            }
+            if (childrenValues == null) {
+                childrenValues = childrenFactory.call(value);
+            }
+            return childrenValues.isEmpty();
+        }
+        return super.isLeaf();
+    }
+
+    private RecursiveTreeItem<T> createChildItem(T child) {
+        RecursiveTreeItem<T> item = new RecursiveTreeItem<>(child, getGraphic(), childrenFactory, lazy);
+        itemsMap.put(child, item);
+        return item;
+    }
+
+    private void addChildren(int from, List<? extends T> added) {
+        final List<TreeItem<T>> newItems = new ArrayList<>(added.size());
+        for (T child : added) {
+            newItems.add(createChildItem(child));
+        }
+        // original items are kept in the same order as the children values
+        originalItems.addAll(Math.min(from, originalItems.size()), newItems);
+        getChildren().addAll(newItems);
+    }
+
+    private void removeChildren(int from, List<? extends T> removed) {
+        final Set<TreeItem<T>> removedItems = Collections.newSetFromMap(new IdentityHashMap<>(removed.size()));
+        final int to = from + removed.size();
+        boolean matchesRange = to <= originalItems.size();
+        for (int i = from; matchesRange && i < to; i++) {
+            matchesRange = originalItems.get(i).getValue() == removed.get(i - from);
+        }
+        if (matchesRange) {
+            final List<TreeItem<T>> removedRange = originalItems.subList(from, to);
+            removedItems.addAll(removedRange);
+            removedRange.clear();
+        } else {
+            // original items are out of sync with the children values, lookup the removed items
+            for (T child : removed) {
+                TreeItem<T> item = itemsMap.get(child);
+                if (item != null) {
+                    removedItems.add(item);
                 }
-                if (change.wasRemoved()) {
-                    change.getRemoved().forEach(t -> {
-                        for (int i = 0; i < RecursiveTreeItem.this.getChildren().size(); i++) {
-                            if (this.getChildren().get(i).getValue().equals(t)) {
-                                // remove the items from the current/original items list
-                                originalItems.remove(this.getChildren().remove(i));
-                                i--;
-                            }
-                        }
-                        //						final List<TreeItem<T>> itemsToRemove = RecursiveTreeItem.this.getChildren().stream()
-                        //								.filter(treeItem -> treeItem.getValue().equals(t)).collect(Collectors.toList());
-                        //						RecursiveTreeItem.this.getChildren().removeAll(itemsToRemove);
-                    });
+            }
+            originalItems.removeAll(removedItems);
+        }
+        for (T child : removed) {
+            if (removedItems.contains(itemsMap.get(child))) {
+                itemsMap.remove(child);
+            }
+        }
+        // remove the items from the current items list
+        getChildren().removeAll(removedItems);
+    }
+
+    private void permuteChildren(ListChangeListener.Change<? extends T> change) {
+        final int from = change.getFrom();
+        final int to = Math.min(change.getTo(), originalItems.size());
+        if (from >= to) {
+            return;
+        }
+        final List<TreeItem<T>> permuted = new ArrayList<>(originalItems.subList(from, to));
+        for (int i = from; i < to; i++) {
+            final int newIndex = change.getPermutation(i);
+            if (newIndex < to) {
+                permuted.set(newIndex - from, originalItems.get(i));
+            }
+        }
+        originalItems.remove(from, to);
+        originalItems.addAll(from, permuted);
+    }
+
+    /**
+     * filters the tree items using the specified predicate.
+     * <p>
+     * The predicate is evaluated for the whole tree in the calling thread, or in parallel using the
+     * fork/join common pool if parallel filtering is enabled (the tree is split by subtree, and large
+     * children lists are split in ranges). Then the filtered children of all tree items are applied
+     * in one FX thread commit. If the predicate throws an exception, it's propagated to the caller
+     * and the tree items are left unchanged.
+     * <p>
+     * <b>Note:</b> this method returns once the filtered children are applied
+     *
+     * @param predicate used to filter the tree items
+     */
+    public void filter(Predicate<TreeItem<T>> predicate) {
+        if (predicate == null) {
+            setPredicate(null);
+            return;
+        }
+        // lazy tree items are materialized when filtered, tree items are only created on the FX thread
+        JFXUtilities.runInFXAndWait(this::materializeSubtree);
+        final Map<RecursiveTreeItem<T>, Set<TreeItem<T>>> result = new ConcurrentHashMap<>();
+        if (isParallelFiltering()) {
+            ForkJoinPool.commonPool().invoke(new FilterTask<>(this, predicate, result, true));
+        } else {
+            new FilterTask<>(this, predicate, result, false).invoke();
+        }
+        JFXUtilities.runInFXAndWait(() -> result.forEach((item, filteredChildren) -> {
+            item.filterResult = filteredChildren;
+            try {
+                if (item.getPredicate() == predicate) {
+                    // force refiltering the children
+                    item.predicateBinding.invalidate();
+                } else {
+                    item.setPredicate(predicate);
                 }
+            } finally {
+                item.filterResult = null;
             }
-        });
+        }));
+    }
 
+    private void materializeSubtree() {
+        materialize();
+        for (TreeItem<T> child : originalItems) {
+            if (child instanceof RecursiveTreeItem) {
+                ((RecursiveTreeItem<T>) child).materializeSubtree();
+            }
+        }
+    }
+
+    /**
+     * whether {@link #filter(Predicate)} evaluates the predicate in parallel
+     */
+    private BooleanProperty parallelFiltering = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty parallelFilteringProperty() {
+        return this.parallelFiltering;
+    }
+
+    public final boolean isParallelFiltering() {
+        return this.parallelFilteringProperty().get();
+    }
+
+    public final void setParallelFiltering(final boolean parallelFiltering) {
+        this.parallelFilteringProperty().set(parallelFiltering);
     }
 
     public final ObjectProperty<Predicate<TreeItem<T>>> predicateProperty() {
@@ -210,5 +482,116 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
         this.predicateProperty().set(predicate);
     }
 
+    /**
+     * fork/join task that computes the filtered children of a tree item and its subtree.
+     * Children keeping rules are the same as the filtered items predicate. If not parallel,
+     * the subtasks are invoked one by one in the current thread.
+     */
+    private static final class FilterTask<T extends RecursiveTreeObject<T>> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        // number of children evaluated by a single task
+        private static final int THRESHOLD = 1024;
+
+        private final RecursiveTreeItem<T> item;
+        private final Predicate<TreeItem<T>> predicate;
+        private final Map<RecursiveTreeItem<T>, Set<TreeItem<T>>> result;
+        private final boolean parallel;
+
+        FilterTask(RecursiveTreeItem<T> item,
+                   Predicate<TreeItem<T>> predicate,
+                   Map<RecursiveTreeItem<T>, Set<TreeItem<T>>> result,
+                   boolean parallel) {
+            this.item = item;
+            this.predicate = predicate;
+            this.result = result;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected void compute() {
+            final List<TreeItem<T>> children = new ArrayList<>(item.originalItems);
+            final boolean[] keep = new boolean[children.size()];
+            final List<RecursiveAction> tasks = new ArrayList<>();
+            for (TreeItem<T> child : children) {
+                if (isFilterable(child)) {
+                    tasks.add(new FilterTask<>((RecursiveTreeItem<T>) child, predicate, result, parallel));
+                }
+            }
+            tasks.add(new RangeTask(children, keep, 0, children.size()));
+            run(tasks);
+            // filterable children are evaluated once their subtree is filtered
+            final Set<TreeItem<T>> filteredChildren = new HashSet<>();
+            for (int i = 0; i < keep.length; i++) {
+                final TreeItem<T> child = children.get(i);
+                if (isFilterable(child)) {
+                    keep[i] = test(child, result.get(child).size());
+                }
+                if (keep[i]) {
+                    filteredChildren.add(child);
+                }
+            }
+            result.put(item, filteredChildren);
+        }
+
+        private void run(List<RecursiveAction> tasks) {
+            if (parallel) {
+                invokeAll(tasks);
+            } else {
+                for (RecursiveAction task : tasks) {
+                    task.invoke();
+                }
+            }
+        }
 
+        private boolean isFilterable(TreeItem<T> child) {
+            return child instanceof RecursiveTreeItem && !((RecursiveTreeItem) child).originalItems.isEmpty();
+        }
+
+        private boolean test(TreeItem<T> child, int childrenCount) {
+            // If there are children, keep this tree item
+            if (childrenCount > 0) {
+                return true;
+            }
+            // If its a group node keep this item if it has children
+            if (child.getValue() instanceof RecursiveTreeObject &&
+                child.getValue().getClass() == RecursiveTreeObject.class) {
+                return false;
+            }
+            // Otherwise ask the TreeItemPredicate
+            return predicate.test(child);
+        }
+
+        private final class RangeTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final List<TreeItem<T>> children;
+            private final boolean[] keep;
+            private final int from;
+            private final int to;
+
+            RangeTask(List<TreeItem<T>> children, boolean[] keep, int from, int to) {
+                this.children = children;
+                this.keep = keep;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (parallel && to - from > THRESHOLD) {
+                    final int mid = (from + to) >>> 1;
+                    invokeAll(new RangeTask(children, keep, from, mid), new RangeTask(children, keep, mid, to));
+                    return;
+                }
+                for (int i = from; i < to; i++) {
+                    final TreeItem<T> child = children.get(i);
+                    if (!isFilterable(child)) {
+                        keep[i] = test(child, child.getChildren().size());
+                    }
+                }
+            }
+        }
+    }
 }
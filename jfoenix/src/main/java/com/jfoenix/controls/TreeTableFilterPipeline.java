@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.concurrency.JFXUtilities;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.scene.control.TreeItem;
+import javafx.util.Duration;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Filtering pipeline used by {@link JFXTreeTableView}.
+ * <p>
+ * Predicate changes are debounced, then a filter pass is executed on the table
+ * filter executor. Each request is stamped with a generation number: a pass whose
+ * generation is no longer the latest is aborted while evaluating the user predicate,
+ * before any of its result is applied, so a slow old pass can't overwrite a newer one.
+ * Passes are serialized, as they all modify the same tree items.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class TreeTableFilterPipeline<S extends RecursiveTreeObject<S>> {
+
+    private static final ScheduledExecutorService DEBOUNCE_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JFXTreeTableView-FilterDebounce");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "JFXTreeTableView-Filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final JFXTreeTableView<S> treeTableView;
+    private final AtomicLong generation = new AtomicLong();
+    private final Object passLock = new Object();
+    private ScheduledFuture<?> pendingPass;
+
+    TreeTableFilterPipeline(JFXTreeTableView<S> treeTableView) {
+        this.treeTableView = treeTableView;
+    }
+
+    /**
+     * requests a new filter pass, any pending or running pass becomes stale.
+     *
+     * @param predicate the new filter predicate
+     * @param executor  the executor used to run the pass, if null an internal thread pool is used
+     * @param delay     the debounce delay, if null or zero the pass is submitted immediately
+     */
+    synchronized void filter(Predicate<TreeItem<S>> predicate, Executor executor, Duration delay) {
+        final long gen = generation.incrementAndGet();
+        if (pendingPass != null) {
+            pendingPass.cancel(false);
+            pendingPass = null;
+        }
+        final Executor passExecutor = executor == null ? DEFAULT_EXECUTOR : executor;
+        final Runnable submit = () -> passExecutor.execute(() -> runPass(gen, predicate));
+        final long delayMillis = delay == null ? 0 : (long) delay.toMillis();
+        if (delayMillis > 0) {
+            pendingPass = DEBOUNCE_SCHEDULER.schedule(submit, delayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            submit.run();
+        }
+    }
+
+    private boolean isStale(long gen) {
+        return gen != generation.get();
+    }
+
+    private void runPass(long gen, Predicate<TreeItem<S>> predicate) {
+        synchronized (passLock) {
+            if (isStale(gen)) {
+                return;
+            }
+            // once stale, the pass is aborted by the predicate, the tree items are only
+            // modified after the predicate is evaluated for all of them
+            final Predicate<TreeItem<S>> cancellablePredicate = predicate == null ? null : item -> {
+                if (isStale(gen)) {
+                    throw new StalePassException();
+                }
+                return predicate.test(item);
+            };
+            try {
+                treeTableView.applyFilter(cancellablePredicate);
+            } catch (StalePassException e) {
+                return;
+            }
+            if (isStale(gen)) {
+                return;
+            }
+            // regroup the data
+            treeTableView.reGroup();
+            JFXUtilities.runInFX(() -> {
+                if (!isStale(gen)) {
+                    treeTableView.filterApplied();
+                }
+            });
+        }
+    }
+
+    /**
+     * thrown by the predicate of a stale pass to abort it
+     */
+    private static final class StalePassException extends CancellationException {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
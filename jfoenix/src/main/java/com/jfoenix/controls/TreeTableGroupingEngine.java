@@ -0,0 +1,675 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.concurrency.JFXUtilities;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeAggregate;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeAggregate.AggregateType;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Grouping engine used by {@link JFXTreeTableView} to keep a persistent group index
+ * of the table rows.
+ * <p>
+ * The index is built once per group order on a background thread, then row
+ * additions / removals / updates of the source {@link RecursiveTreeItem} are applied
+ * incrementally to the index. Only the group tree items that actually changed are
+ * updated on the FX thread, in a single batch per drain.
+ * <p>
+ * Each group also keeps its items count and the table group aggregates, updated
+ * along with the index and published to the group objects of the changed groups.
+ * <p>
+ * All index state is confined to the grouping thread, the FX thread only receives
+ * the computed tree item changes.
+ * <p>
+ * Group / ungroup requests are versioned: a request that is superseded before being
+ * computed is dropped, so only the latest requested group order is computed. The future
+ * of a superseded request completes along with the request that superseded it.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class TreeTableGroupingEngine<S extends RecursiveTreeObject<S>> {
+
+    private static final ExecutorService GROUPING_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JFXTreeTableView-Grouping");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final JFXTreeTableView<S> treeTableView;
+
+    // generation of the latest group / ungroup request
+    private final AtomicLong generation = new AtomicLong();
+    // latest request that is not yet computed
+    private final AtomicReference<GroupRequest<S>> pendingRequest = new AtomicReference<>();
+    private GroupRequest<S> latestRequest;
+    private final ConcurrentLinkedQueue<Delta<S>> pendingDeltas = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private volatile boolean suspended = false;
+
+    private RecursiveTreeItem<S> source;
+    private final ListChangeListener<TreeItem<S>> itemsListener = this::onItemsChanged;
+    private final ListChangeListener<S> valuesListener = this::onValuesChanged;
+
+    /*
+     * index state, only accessed from the grouping thread
+     */
+    private long indexGeneration = 0;
+    private List<TreeTableColumn<S, ?>> columns = Collections.emptyList();
+    private List<RecursiveTreeAggregate<S>> aggregates = Collections.emptyList();
+    private GroupNode<S> rootGroup;
+    private final Map<TreeItem<S>, LeafEntry<S>> leaves = new IdentityHashMap<>();
+    private final Map<S, TreeItem<S>> leafItems = new IdentityHashMap<>();
+    // used to read the raw column value of a row, as grouped rows hide the grouped columns values
+    private final TreeItem<S> keyProbe = new TreeItem<>();
+
+    TreeTableGroupingEngine(JFXTreeTableView<S> treeTableView) {
+        this.treeTableView = treeTableView;
+    }
+
+    /**
+     * requests to (re)build the group index of the source items according to the specified
+     * group order, then keep it updated with the source changes. If the group order is
+     * empty, the group index is dropped and the ungrouped root is restored.
+     * <p>
+     * <b>Note:</b> requests must not be made concurrently
+     *
+     * @param groupColumns the group order
+     * @param source       the ungrouped root item
+     * @return a future that is completed once the request (or a request that supersedes it)
+     * is applied on the FX thread
+     */
+    CompletableFuture<Void> group(List<TreeTableColumn<S, ?>> groupColumns, RecursiveTreeItem<S> source) {
+        final List<TreeTableColumn<S, ?>> order = new ArrayList<>(groupColumns);
+        final GroupRequest<S> request = new GroupRequest<>(generation.incrementAndGet(), order,
+            new ArrayList<>(treeTableView.getGroupAggregates()));
+        attach(order.isEmpty() ? null : source);
+        if (!order.isEmpty()) {
+            request.snapshot = new ArrayList<>(source.filteredItems);
+        }
+        // a superseded request completes along with the latest one
+        final GroupRequest<S> superseded = latestRequest;
+        latestRequest = request;
+        if (superseded != null) {
+            request.future.whenComplete((value, error) -> superseded.future.complete(null));
+        }
+        if (pendingRequest.getAndSet(request) == null) {
+            GROUPING_EXECUTOR.execute(this::processRequest);
+        }
+        return request.future;
+    }
+
+    /**
+     * runs a source modification that will be followed by a full regroup,
+     * thus its changes are not applied incrementally.
+     *
+     * @param runnable the source modification
+     */
+    void runSuspended(Runnable runnable) {
+        suspended = true;
+        try {
+            runnable.run();
+        } finally {
+            suspended = false;
+        }
+    }
+
+    private void attach(RecursiveTreeItem<S> newSource) {
+        if (source == newSource) {
+            return;
+        }
+        if (source != null) {
+            source.filteredItems.removeListener(itemsListener);
+            if (source.childrenValues != null) {
+                source.childrenValues.removeListener(valuesListener);
+            }
+        }
+        pendingDeltas.clear();
+        source = newSource;
+        if (source != null) {
+            source.filteredItems.addListener(itemsListener);
+            if (source.childrenValues != null) {
+                source.childrenValues.addListener(valuesListener);
+            }
+        }
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Source listeners                                                        *
+     *                                                                         *
+     **************************************************************************/
+
+    private void onItemsChanged(ListChangeListener.Change<? extends TreeItem<S>> change) {
+        if (suspended) {
+            return;
+        }
+        final long gen = generation.get();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasRemoved()) {
+                pendingDeltas.add(new Delta<>(gen, DeltaType.REMOVE, new ArrayList<>(change.getRemoved()), null));
+            }
+            if (change.wasAdded()) {
+                pendingDeltas.add(new Delta<>(gen, DeltaType.ADD, new ArrayList<>(change.getAddedSubList()), null));
+            }
+            if (change.wasUpdated()) {
+                pendingDeltas.add(new Delta<>(gen, DeltaType.UPDATE,
+                    new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo())), null));
+            }
+        }
+        scheduleDrain();
+    }
+
+    private void onValuesChanged(ListChangeListener.Change<? extends S> change) {
+        if (suspended) {
+            return;
+        }
+        final long gen = generation.get();
+        boolean updated = false;
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                pendingDeltas.add(new Delta<>(gen, DeltaType.UPDATE_VALUES, null,
+                    new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))));
+                updated = true;
+            }
+        }
+        if (updated) {
+            scheduleDrain();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            GROUPING_EXECUTOR.execute(this::drain);
+        }
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Index maintenance (grouping thread)                                     *
+     *                                                                         *
+     **************************************************************************/
+
+    private void processRequest() {
+        final GroupRequest<S> request = pendingRequest.getAndSet(null);
+        if (request == null || request.generation != generation.get()) {
+            // superseded by a newer group request
+            return;
+        }
+        final long gen = request.generation;
+        resetIndex(gen, request.columns, request.aggregates);
+        if (rootGroup == null) {
+            JFXUtilities.runInFX(() -> {
+                if (gen == generation.get()) {
+                    treeTableView.restoreOriginalRoot();
+                    request.future.complete(null);
+                }
+            });
+            return;
+        }
+        final Batch<S> batch = new Batch<>();
+        batch.fresh.add(rootGroup.item);
+        for (TreeItem<S> item : request.snapshot) {
+            addLeaf(item, batch);
+        }
+        request.snapshot = null;
+        final RecursiveTreeItem<S> newRoot = rootGroup.item;
+        final int count = leaves.size();
+        final List<Runnable> summaries = summarize(batch);
+        JFXUtilities.runInFX(() -> {
+            if (gen == generation.get()) {
+                batch.commit();
+                summaries.forEach(Runnable::run);
+                treeTableView.setGroupedRoot(newRoot, count);
+                request.future.complete(null);
+            }
+        });
+        // apply source changes that happened while building the index
+        scheduleDrain();
+    }
+
+    private void resetIndex(long gen, List<TreeTableColumn<S, ?>> order, List<RecursiveTreeAggregate<S>> groupAggregates) {
+        indexGeneration = gen;
+        columns = order;
+        aggregates = groupAggregates;
+        leaves.clear();
+        leafItems.clear();
+        rootGroup = order.isEmpty() ? null : new GroupNode<>(null, null, null, aggregates);
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        if (rootGroup == null) {
+            // not grouped, changes are applied directly by the source tree item
+            pendingDeltas.removeIf(delta -> delta.generation <= indexGeneration);
+            return;
+        }
+        final Batch<S> batch = new Batch<>();
+        Delta<S> delta;
+        while ((delta = pendingDeltas.peek()) != null) {
+            if (delta.generation > indexGeneration) {
+                // will be drained once its group index is built
+                break;
+            }
+            pendingDeltas.poll();
+            if (delta.generation < indexGeneration) {
+                // already part of the current index snapshot
+                continue;
+            }
+            switch (delta.type) {
+                case ADD:
+                    delta.items.forEach(item -> addLeaf(item, batch));
+                    break;
+                case REMOVE:
+                    delta.items.forEach(item -> removeLeaf(item, batch));
+                    break;
+                case UPDATE:
+                    delta.items.forEach(item -> updateLeaf(item, batch));
+                    break;
+                case UPDATE_VALUES:
+                    delta.values.forEach(value -> {
+                        TreeItem<S> item = leafItems.get(value);
+                        if (item != null) {
+                            updateLeaf(item, batch);
+                        }
+                    });
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (!batch.isEmpty()) {
+            final long gen = indexGeneration;
+            final int count = leaves.size();
+            final List<Runnable> summaries = summarize(batch);
+            JFXUtilities.runInFX(() -> {
+                if (gen != generation.get()) {
+                    return;
+                }
+                batch.commit();
+                summaries.forEach(Runnable::run);
+                treeTableView.setCurrentItemsCount(count);
+            });
+        }
+    }
+
+    private void addLeaf(TreeItem<S> leaf, Batch<S> batch) {
+        if (leaves.containsKey(leaf)) {
+            return;
+        }
+        final double[] values = getValues(leaf);
+        GroupNode<S> group = rootGroup;
+        group.accumulate(values, true);
+        batch.touched.add(group);
+        for (TreeTableColumn<S, ?> column : columns) {
+            final Object key = getKey(column, leaf);
+            GroupNode<S> subGroup = group.subGroups.get(key);
+            if (subGroup == null) {
+                subGroup = new GroupNode<>(group, key, createGroupItem(key, column), aggregates);
+                group.subGroups.put(key, subGroup);
+                batch.fresh.add(subGroup.item);
+                batch.add(group.item, subGroup.item);
+            }
+            group = subGroup;
+            group.accumulate(values, true);
+            batch.touched.add(group);
+        }
+        batch.add(group.item, leaf);
+        leaves.put(leaf, new LeafEntry<>(group, values));
+        if (leaf.getValue() != null) {
+            leafItems.put(leaf.getValue(), leaf);
+        }
+    }
+
+    private void removeLeaf(TreeItem<S> leaf, Batch<S> batch) {
+        final LeafEntry<S> entry = leaves.remove(leaf);
+        if (entry == null) {
+            return;
+        }
+        if (leaf.getValue() != null) {
+            leafItems.remove(leaf.getValue());
+        }
+        GroupNode<S> group = entry.group;
+        batch.remove(group.item, leaf);
+        while (group != null) {
+            group.accumulate(entry.values, false);
+            batch.touched.add(group);
+            if (group.leafCount == 0 && group.parent != null) {
+                group.parent.subGroups.remove(group.key);
+                batch.remove(group.parent.item, group.item);
+            }
+            group = group.parent;
+        }
+    }
+
+    private void updateLeaf(TreeItem<S> leaf, Batch<S> batch) {
+        final LeafEntry<S> entry = leaves.get(leaf);
+        if (entry == null) {
+            return;
+        }
+        // check whether the group path of the leaf has changed
+        GroupNode<S> group = entry.group;
+        boolean moved = false;
+        for (int i = columns.size() - 1; i >= 0 && !moved; i--, group = group.parent) {
+            if (!Objects.equals(group.key, getKey(columns.get(i), leaf))) {
+                moved = true;
+            }
+        }
+        if (moved) {
+            removeLeaf(leaf, batch);
+            addLeaf(leaf, batch);
+            return;
+        }
+        // otherwise only update the aggregated values
+        final double[] values = getValues(leaf);
+        if (!Arrays.equals(values, entry.values)) {
+            for (group = entry.group; group != null; group = group.parent) {
+                group.accumulate(entry.values, false);
+                group.accumulate(values, true);
+                batch.touched.add(group);
+            }
+            entry.values = values;
+        }
+    }
+
+    private double[] getValues(TreeItem<S> leaf) {
+        final double[] values = new double[aggregates.size()];
+        final S value = leaf.getValue();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value == null ? Double.NaN : aggregates.get(i).getValueFactory().applyAsDouble(value);
+        }
+        return values;
+    }
+
+    /*
+     * computes the count / aggregated values of the changed groups, to be applied
+     * on their group objects in the FX thread
+     */
+    private List<Runnable> summarize(Batch<S> batch) {
+        final List<RecursiveTreeAggregate<S>> groupAggregates = aggregates;
+        final List<Runnable> summaries = new ArrayList<>(batch.touched.size());
+        for (GroupNode<S> group : batch.touched) {
+            if (group.leafCount == 0 && group.parent != null) {
+                // removed group
+                continue;
+            }
+            final RecursiveTreeObject<S> groupObject = group.item.getValue();
+            final int count = group.leafCount;
+            final Number[] results = new Number[group.accumulators.length];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = group.accumulators[i].getResult();
+            }
+            summaries.add(() -> {
+                groupObject.setGroupedItemsCount(count);
+                for (int i = 0; i < results.length; i++) {
+                    groupObject.getAggregatedValues().put(groupAggregates.get(i), results[i]);
+                }
+            });
+        }
+        return summaries;
+    }
+
+    private Object getKey(TreeTableColumn<S, ?> column, TreeItem<S> leaf) {
+        keyProbe.setValue(leaf.getValue());
+        try {
+            return treeTableView.getGroupKey(keyProbe, column);
+        } finally {
+            keyProbe.setValue(null);
+        }
+    }
+
+    private RecursiveTreeItem<S> createGroupItem(Object key, TreeTableColumn<S, ?> column) {
+        RecursiveTreeObject<S> groupObject = new RecursiveTreeObject<>();
+        groupObject.setGroupedValue(key);
+        groupObject.setGroupedColumn(column);
+        RecursiveTreeItem<S> node = createGroupNode(groupObject);
+        node.expandedProperty().addListener((o, oldVal, newVal) -> {
+            treeTableView.getSelectionModel().clearSelection();
+        });
+        return node;
+    }
+
+    /*
+     * group objects are not instances of the rows type, they are only identified
+     * by their grouped column
+     */
+    @SuppressWarnings("unchecked")
+    private static <S extends RecursiveTreeObject<S>> RecursiveTreeItem<S> createGroupNode(RecursiveTreeObject<S> groupObject) {
+        return new RecursiveTreeItem<>((S) groupObject, RecursiveTreeObject::getChildren);
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Inner classes                                                           *
+     *                                                                         *
+     **************************************************************************/
+
+    private enum DeltaType {
+        ADD, REMOVE, UPDATE, UPDATE_VALUES
+    }
+
+    private static final class Delta<S> {
+        final long generation;
+        final DeltaType type;
+        // the changed tree items, or the updated values for UPDATE_VALUES deltas
+        final List<TreeItem<S>> items;
+        final List<S> values;
+
+        Delta(long generation, DeltaType type, List<TreeItem<S>> items, List<S> values) {
+            this.generation = generation;
+            this.type = type;
+            this.items = items;
+            this.values = values;
+        }
+    }
+
+    private static final class GroupRequest<S extends RecursiveTreeObject<S>> {
+        final long generation;
+        final List<TreeTableColumn<S, ?>> columns;
+        final List<RecursiveTreeAggregate<S>> aggregates;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        List<TreeItem<S>> snapshot;
+
+        GroupRequest(long generation, List<TreeTableColumn<S, ?>> columns, List<RecursiveTreeAggregate<S>> aggregates) {
+            this.generation = generation;
+            this.columns = columns;
+            this.aggregates = aggregates;
+        }
+    }
+
+    private static final class LeafEntry<S extends RecursiveTreeObject<S>> {
+        final GroupNode<S> group;
+        double[] values;
+
+        LeafEntry(GroupNode<S> group, double[] values) {
+            this.group = group;
+            this.values = values;
+        }
+    }
+
+    private static final class GroupNode<S extends RecursiveTreeObject<S>> {
+        final GroupNode<S> parent;
+        final Object key;
+        final RecursiveTreeItem<S> item;
+        final Map<Object, GroupNode<S>> subGroups = new LinkedHashMap<>();
+        final Accumulator[] accumulators;
+        int leafCount = 0;
+
+        GroupNode(GroupNode<S> parent, Object key, RecursiveTreeItem<S> item, List<RecursiveTreeAggregate<S>> aggregates) {
+            this.parent = parent;
+            this.key = key;
+            this.item = item != null ? item : createGroupNode(new RecursiveTreeObject<S>());
+            this.accumulators = new Accumulator[aggregates.size()];
+            for (int i = 0; i < accumulators.length; i++) {
+                accumulators[i] = new Accumulator(aggregates.get(i).getType());
+            }
+        }
+
+        void accumulate(double[] values, boolean add) {
+            leafCount += add ? 1 : -1;
+            for (int i = 0; i < accumulators.length; i++) {
+                if (add) {
+                    accumulators[i].add(values[i]);
+                } else {
+                    accumulators[i].remove(values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * incremental aggregate of a group, min / max keep a sorted multiset
+     * of the values so they can be updated on removal.
+     */
+    private static final class Accumulator {
+        final AggregateType type;
+        final TreeMap<Double, Integer> values;
+        double sum = 0;
+        int count = 0;
+
+        Accumulator(AggregateType type) {
+            this.type = type;
+            this.values = type == AggregateType.MIN || type == AggregateType.MAX ? new TreeMap<>() : null;
+        }
+
+        void add(double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            sum += value;
+            count++;
+            if (values != null) {
+                values.merge(value, 1, Integer::sum);
+            }
+        }
+
+        void remove(double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            sum -= value;
+            count--;
+            if (values != null) {
+                values.computeIfPresent(value, (k, c) -> c == 1 ? null : c - 1);
+            }
+        }
+
+        Number getResult() {
+            if (count == 0) {
+                return Double.NaN;
+            }
+            switch (type) {
+                case AVERAGE:
+                    return sum / count;
+                case MIN:
+                    return values.firstKey();
+                case MAX:
+                    return values.lastKey();
+                case SUM:
+                default:
+                    return sum;
+            }
+        }
+    }
+
+    /**
+     * collects the tree item changes of one drain, they are all committed on the FX thread.
+     * Group items created in the same drain are not yet attached to the table, so they are
+     * filled before attaching them.
+     */
+    private static final class Batch<S extends RecursiveTreeObject<S>> {
+        final Set<TreeItem<S>> fresh = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<GroupNode<S>> touched = new HashSet<>();
+        final Map<RecursiveTreeItem<S>, Set<TreeItem<S>>> adds = new LinkedHashMap<>();
+        final Map<RecursiveTreeItem<S>, Set<TreeItem<S>>> removes = new LinkedHashMap<>();
+
+        void add(RecursiveTreeItem<S> parent, TreeItem<S> child) {
+            adds.computeIfAbsent(parent, p -> new LinkedHashSet<>()).add(child);
+        }
+
+        void remove(RecursiveTreeItem<S> parent, TreeItem<S> child) {
+            Set<TreeItem<S>> added = adds.get(parent);
+            if (added != null && added.remove(child)) {
+                // added and removed within the same drain
+                return;
+            }
+            if (!fresh.contains(parent)) {
+                removes.computeIfAbsent(parent, p -> new HashSet<>()).add(child);
+            }
+        }
+
+        boolean isEmpty() {
+            return adds.isEmpty() && removes.isEmpty() && touched.isEmpty();
+        }
+
+        void commit() {
+            removes.forEach((parent, children) -> {
+                parent.originalItems.removeAll(children);
+                parent.getChildren().removeAll(children);
+            });
+            // fill the new group items, then attach them to the table
+            adds.forEach((parent, children) -> {
+                if (fresh.contains(parent)) {
+                    addAll(parent, children);
+                }
+            });
+            adds.forEach((parent, children) -> {
+                if (!fresh.contains(parent)) {
+                    addAll(parent, children);
+                }
+            });
+        }
+
+        private static <S extends RecursiveTreeObject<S>> void addAll(RecursiveTreeItem<S> parent, Set<TreeItem<S>> children) {
+            if (!children.isEmpty()) {
+                parent.originalItems.addAll(children);
+                parent.getChildren().addAll(children);
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.concurrency.JFXUtilities;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeSortMode;
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sort engine used by {@link JFXTreeTableView} when parallel sorting is enabled.
+ * <p>
+ * The tree levels and the sort keys of their rows are captured on the FX thread, once
+ * per column (into a double array when the column values are all Integer, Float or Double
+ * compared with the default comparator). The levels are then sorted in parallel on the
+ * fork/join common pool, each one as an index permutation. The sorted levels are applied
+ * in one FX thread commit; levels changed meanwhile are left untouched.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class TreeTableSortEngine<S extends RecursiveTreeObject<S>> {
+
+    // the halves of ranges bigger than this are sorted in parallel
+    private static final int PARALLEL_SORT_THRESHOLD = 8192;
+
+    private final JFXTreeTableView<S> treeTableView;
+    private final AtomicLong generation = new AtomicLong();
+
+    TreeTableSortEngine(JFXTreeTableView<S> treeTableView) {
+        this.treeTableView = treeTableView;
+    }
+
+    /**
+     * sorts the table according to its sort order, must be called from the FX thread.
+     *
+     * @return a future that is completed once the sorted levels are applied
+     */
+    CompletableFuture<Void> sort() {
+        final long gen = generation.incrementAndGet();
+        final List<TreeTableColumn<S, ?>> sortOrder = new ArrayList<>(treeTableView.getSortOrder());
+        final TreeItem<S> root = treeTableView.getRoot();
+        final List<Level<S>> levels = new ArrayList<>();
+        if (root != null && !sortOrder.isEmpty()) {
+            collectLevels(root, treeTableView.getSortMode() == TreeSortMode.ALL_DESCENDANTS, levels);
+        }
+        // cell values are only read on the FX thread
+        for (Level<S> level : levels) {
+            level.keys = SortKeys.extract(sortOrder, level.children);
+        }
+        return JFXUtilities.supplyAsyncThenRunInFX(() -> {
+            levels.parallelStream().forEach(Level::sort);
+            return levels;
+        }, sortedLevels -> {
+            if (gen == generation.get()) {
+                sortedLevels.forEach(Level::commit);
+            }
+        }, ForkJoinPool.commonPool()).thenRun(() -> { });
+    }
+
+    private void collectLevels(TreeItem<S> parent, boolean allDescendants, List<Level<S>> levels) {
+        final List<TreeItem<S>> children = new ArrayList<>(parent.getChildren());
+        if (children.size() > 1) {
+            levels.add(new Level<>(parent, children));
+        }
+        if (allDescendants) {
+            for (TreeItem<S> child : children) {
+                if (!child.isLeaf()) {
+                    collectLevels(child, true, levels);
+                }
+            }
+        }
+    }
+
+    /**
+     * children of a tree item, sorted as an index permutation
+     */
+    private static final class Level<S> {
+        final TreeItem<S> parent;
+        final List<TreeItem<S>> children;
+        SortKeys keys;
+        int[] permutation;
+
+        Level(TreeItem<S> parent, List<TreeItem<S>> children) {
+            this.parent = parent;
+            this.children = children;
+        }
+
+        void sort() {
+            permutation = keys.sort();
+        }
+
+        void commit() {
+            final List<TreeItem<S>> current = parent.getChildren();
+            if (permutation == null || current.size() != children.size()) {
+                return;
+            }
+            for (int i = 0; i < children.size(); i++) {
+                if (current.get(i) != children.get(i)) {
+                    // changed since the sort started
+                    return;
+                }
+            }
+            final List<TreeItem<S>> sorted = new ArrayList<>(children.size());
+            for (int index : permutation) {
+                sorted.add(children.get(index));
+            }
+            parent.getChildren().setAll(sorted);
+        }
+    }
+
+    /**
+     * the sort keys of the rows of a level, and the comparison of rows by these keys
+     */
+    static final class SortKeys {
+        private final int size;
+        private final Object[][] keys;
+        private final double[][] numericKeys;
+        private final List<Comparator<Object>> comparators;
+        private final boolean[] descending;
+
+        SortKeys(int size, int columnsCount) {
+            this.size = size;
+            keys = new Object[columnsCount][];
+            numericKeys = new double[columnsCount][];
+            comparators = new ArrayList<>(Collections.nCopies(columnsCount, null));
+            descending = new boolean[columnsCount];
+        }
+
+        static <S> SortKeys extract(List<TreeTableColumn<S, ?>> sortOrder, List<TreeItem<S>> rows) {
+            final SortKeys sortKeys = new SortKeys(rows.size(), sortOrder.size());
+            for (int c = 0; c < sortOrder.size(); c++) {
+                final TreeTableColumn<S, ?> column = sortOrder.get(c);
+                final Object[] columnKeys = new Object[rows.size()];
+                for (int i = 0; i < columnKeys.length; i++) {
+                    columnKeys[i] = column.getCellData(rows.get(i));
+                }
+                sortKeys.setKeys(c, columnKeys, column.getComparator(),
+                    column.getSortType() == TreeTableColumn.SortType.DESCENDING);
+            }
+            return sortKeys;
+        }
+
+        /**
+         * sets the keys of a sort column, they are compared as doubles if they are all
+         * of the same type among Integer, Float and Double and the comparator is the default one,
+         * as converting these values to double keeps their order.
+         */
+        @SuppressWarnings("unchecked")
+        void setKeys(int column, Object[] columnKeys, Comparator<?> comparator, boolean descending) {
+            boolean numeric = comparator == TreeTableColumn.DEFAULT_COMPARATOR && columnKeys.length > 0
+                              && isExactDouble(columnKeys[0]);
+            for (int i = 1; numeric && i < columnKeys.length; i++) {
+                numeric = columnKeys[i] != null && columnKeys[i].getClass() == columnKeys[0].getClass();
+            }
+            if (numeric) {
+                final double[] values = new double[columnKeys.length];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = ((Number) columnKeys[i]).doubleValue();
+                }
+                numericKeys[column] = values;
+            } else {
+                keys[column] = columnKeys;
+                comparators.set(column, (Comparator<Object>) comparator);
+            }
+            this.descending[column] = descending;
+        }
+
+        private static boolean isExactDouble(Object key) {
+            return key instanceof Integer || key instanceof Float || key instanceof Double;
+        }
+
+        int compare(int a, int b) {
+            for (int c = 0; c < descending.length; c++) {
+                int result = numericKeys[c] != null
+                    ? Double.compare(numericKeys[c][a], numericKeys[c][b])
+                    : comparators.get(c).compare(keys[c][a], keys[c][b]);
+                if (result != 0) {
+                    return descending[c] ? -result : result;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * @return the rows indices in sorted order, equal rows keep their order
+         */
+        int[] sort() {
+            final int[] indices = new int[size];
+            for (int i = 0; i < size; i++) {
+                indices[i] = i;
+            }
+            new IndexSort(this, indices, new int[size], 0, size).invoke();
+            return indices;
+        }
+    }
+
+    /**
+     * stable merge sort of rows indices, the halves of big ranges are sorted in parallel
+     */
+    private static final class IndexSort extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // ranges smaller than this are sorted by insertion
+        private static final int INSERTION_SORT_THRESHOLD = 32;
+
+        private final SortKeys keys;
+        private final int[] indices;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+
+        IndexSort(SortKeys keys, int[] indices, int[] buffer, int from, int to) {
+            this.keys = keys;
+            this.indices = indices;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort();
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            final IndexSort left = new IndexSort(keys, indices, buffer, from, mid);
+            final IndexSort right = new IndexSort(keys, indices, buffer, mid, to);
+            if (to - from > PARALLEL_SORT_THRESHOLD) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            merge(mid);
+        }
+
+        private void insertionSort() {
+            for (int i = from + 1; i < to; i++) {
+                final int index = indices[i];
+                int j = i - 1;
+                while (j >= from && keys.compare(indices[j], index) > 0) {
+                    indices[j + 1] = indices[j];
+                    j--;
+                }
+                indices[j + 1] = index;
+            }
+        }
+
+        private void merge(int mid) {
+            if (keys.compare(indices[mid - 1], indices[mid]) <= 0) {
+                // already in order
+                return;
+            }
+            System.arraycopy(indices, from, buffer, from, to - from);
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right >= to || (left < mid && keys.compare(buffer[left], buffer[right]) <= 0)) {
+                    indices[i] = buffer[left++];
+                } else {
+                    indices[i] = buffer[right++];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * numeric aggregate computed for each group of a grouped JFXTreeTableView.
+ * <p>
+ * Aggregated values are maintained incrementally while the table rows change,
+ * and are available on the group objects through
+ * {@link RecursiveTreeObject#getAggregatedValue(RecursiveTreeAggregate)}.
+ * NaN values are ignored.
+ *
+ * @param <T> is the concrete object of the Tree table
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RecursiveTreeAggregate<T> {
+
+    public enum AggregateType {
+        SUM, MIN, MAX, AVERAGE
+    }
+
+    private final AggregateType type;
+    private final ToDoubleFunction<T> valueFactory;
+
+    /**
+     * creates an aggregate of the specified type
+     *
+     * @param type         of the aggregate
+     * @param valueFactory extracts the value of a row to be aggregated
+     */
+    public RecursiveTreeAggregate(AggregateType type, ToDoubleFunction<T> valueFactory) {
+        this.type = type;
+        this.valueFactory = valueFactory;
+    }
+
+    public static <T> RecursiveTreeAggregate<T> sum(ToDoubleFunction<T> valueFactory) {
+        return new RecursiveTreeAggregate<>(AggregateType.SUM, valueFactory);
+    }
+
+    public static <T> RecursiveTreeAggregate<T> min(ToDoubleFunction<T> valueFactory) {
+        return new RecursiveTreeAggregate<>(AggregateType.MIN, valueFactory);
+    }
+
+    public static <T> RecursiveTreeAggregate<T> max(ToDoubleFunction<T> valueFactory) {
+        return new RecursiveTreeAggregate<>(AggregateType.MAX, valueFactory);
+    }
+
+    public static <T> RecursiveTreeAggregate<T> average(ToDoubleFunction<T> valueFactory) {
+        return new RecursiveTreeAggregate<>(AggregateType.AVERAGE, valueFactory);
+    }
+
+    public final AggregateType getType() {
+        return type;
+    }
+
+    public final ToDoubleFunction<T> getValueFactory() {
+        return valueFactory;
+    }
+}
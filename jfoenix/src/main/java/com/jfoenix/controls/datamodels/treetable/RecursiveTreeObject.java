@@ -19,10 +19,13 @@
 
 package com.jfoenix.controls.datamodels.treetable;
 
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.scene.control.TreeTableColumn;
 
 /**
@@ -85,5 +88,43 @@ public class RecursiveTreeObject<T> {
         this.groupedValueProperty().set(groupedValue);
     }
 
+    /**
+     * number of items in the group, only set for group objects
+     */
+    IntegerProperty groupedItemsCount;
+
+    public final IntegerProperty groupedItemsCountProperty() {
+        if (groupedItemsCount == null) {
+            groupedItemsCount = new SimpleIntegerProperty(0);
+        }
+        return this.groupedItemsCount;
+    }
+
+    public final int getGroupedItemsCount() {
+        return groupedItemsCount == null ? 0 : this.groupedItemsCount.get();
+    }
+
+    public final void setGroupedItemsCount(final int groupedItemsCount) {
+        this.groupedItemsCountProperty().set(groupedItemsCount);
+    }
 
+    /**
+     * aggregated values of the group items, only set for group objects
+     */
+    ObservableMap<RecursiveTreeAggregate<T>, Number> aggregatedValues;
+
+    public final ObservableMap<RecursiveTreeAggregate<T>, Number> getAggregatedValues() {
+        if (aggregatedValues == null) {
+            aggregatedValues = FXCollections.observableHashMap();
+        }
+        return aggregatedValues;
+    }
+
+    /**
+     * @param aggregate one of the table group aggregates
+     * @return the aggregated value of the group items, or null if not computed
+     */
+    public final Number getAggregatedValue(RecursiveTreeAggregate<T> aggregate) {
+        return aggregatedValues == null ? null : aggregatedValues.get(aggregate);
+    }
 }
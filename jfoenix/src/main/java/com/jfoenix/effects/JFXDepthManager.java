@@ -43,6 +43,9 @@ public class JFXDepthManager {
         new DropShadow(BlurType.GAUSSIAN, Color.rgb(0, 0, 0, 0.26), 25, 0.25, 0, 8),
         new DropShadow(BlurType.GAUSSIAN, Color.rgb(0, 0, 0, 0.26), 30, 0.30, 0, 10)};
 
+    // shadows shared by the nodes of the same depth, created on demand
+    private static final DropShadow[] sharedDepth = new DropShadow[depth.length];
+
     /**
      * this method is used to add shadow effect to the node,
      * however the shadow is not real ( gets affected with node transformations)
@@ -60,6 +63,35 @@ public class JFXDepthManager {
             depth[level].getOffsetY()));
     }
 
+    /**
+     * this method is the same as {@link #setDepth(Node, int)}, however all the nodes
+     * with the same depth level share the same shadow effect instead of holding a copy of it.
+     * <p>
+     * the shared effect must not be modified or animated, use {@link #setDepth(Node, int)}
+     * for nodes whose shadow is changed. For many rectangular nodes of the same depth,
+     * {@link JFXShadowLayer} draws their shadows in one pass.
+     */
+    public static void setSharedDepth(Node control, int level) {
+        control.setEffect(getSharedShadowAt(level));
+    }
+
+    /**
+     * @return the shadow effect shared by the nodes of the specified depth level
+     */
+    public static DropShadow getSharedShadowAt(int level) {
+        level = level < 0 ? 0 : level;
+        level = level > 5 ? 5 : level;
+        if (sharedDepth[level] == null) {
+            sharedDepth[level] = new DropShadow(BlurType.GAUSSIAN,
+                depth[level].getColor(),
+                depth[level].getRadius(),
+                depth[level].getSpread(),
+                depth[level].getOffsetX(),
+                depth[level].getOffsetY());
+        }
+        return sharedDepth[level];
+    }
+
     public static int getLevels() {
         return depth.length;
     }
@@ -87,6 +119,17 @@ public class JFXDepthManager {
         return container;
     }
 
+    /**
+     * same as {@link #createMaterialNode(Node, int)}, using the shadow effect
+     * shared by the nodes of the same depth level
+     */
+    public static Node createSharedMaterialNode(Node control, int level) {
+        Node container = new Pane(control);
+        container.getStyleClass().add("depth-container");
+        container.setEffect(getSharedShadowAt(level));
+        return container;
+    }
+
     public static void pop(Node control) {
         control.setEffect(new DropShadow(BlurType.GAUSSIAN, Color.rgb(0, 0, 0, 0.26), 5, 0.05, 0, 1));
     }
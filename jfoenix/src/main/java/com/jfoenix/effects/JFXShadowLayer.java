@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.effects;
+
+import javafx.beans.DefaultProperty;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * JFXShadowLayer draws the material shadows of the children of its content into one canvas,
+ * instead of applying a {@link DropShadow} effect on each child. It's intended for containers
+ * with many rectangular children of the same depth, such as card grids.
+ * <p>
+ * the shadow of each depth level is rendered once into a nine-patch image, that is stretched
+ * around the bounds of the children. All the children get the layer depth, unless their own
+ * depth is set using {@link #setChildDepth(Node, Integer)}. The canvas only covers the area of the
+ * layer that is visible in the enclosing {@link ScrollPane}, if any.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@DefaultProperty(value = "content")
+public class JFXShadowLayer extends StackPane {
+
+    private static final String CHILD_DEPTH = "jfx-shadow-layer-depth";
+    private static final NinePatch[] ninePatches = new NinePatch[JFXDepthManager.getLevels()];
+
+    private final Canvas canvas = new Canvas();
+    private ScrollPane scrollPane;
+    // ignore the children changes while the layer is being laid out
+    private boolean drawing = false;
+    private final InvalidationListener redrawListener = o -> {
+        if (!drawing) {
+            requestLayout();
+        }
+    };
+    private final ListChangeListener<Node> childrenListener = change -> {
+        while (change.next()) {
+            for (Node child : change.getRemoved()) {
+                unregisterChild(child);
+            }
+            for (Node child : change.getAddedSubList()) {
+                registerChild(child);
+            }
+        }
+        requestLayout();
+    };
+
+    /**
+     * creates an empty shadow layer
+     */
+    public JFXShadowLayer() {
+        this(null);
+    }
+
+    /**
+     * creates a shadow layer for the specified content
+     *
+     * @param content the node that contains the children to draw the shadows for
+     */
+    public JFXShadowLayer(Node content) {
+        initialize();
+        canvas.setManaged(false);
+        canvas.setMouseTransparent(true);
+        this.content.addListener((o, oldVal, newVal) -> {
+            if (oldVal instanceof Parent) {
+                ((Parent) oldVal).getChildrenUnmodifiable().removeListener(childrenListener);
+                ((Parent) oldVal).getChildrenUnmodifiable().forEach(this::unregisterChild);
+            }
+            if (newVal instanceof Parent) {
+                ((Parent) newVal).getChildrenUnmodifiable().addListener(childrenListener);
+                ((Parent) newVal).getChildrenUnmodifiable().forEach(this::registerChild);
+            }
+            if (newVal == null) {
+                getChildren().setAll(canvas);
+            } else {
+                getChildren().setAll(canvas, newVal);
+            }
+        });
+        this.depth.addListener(redrawListener);
+        sceneProperty().addListener((o, oldVal, newVal) -> updateScrollPane());
+        parentProperty().addListener((o, oldVal, newVal) -> updateScrollPane());
+        getChildren().setAll(canvas);
+        setContent(content);
+    }
+
+    private void registerChild(Node child) {
+        child.boundsInParentProperty().addListener(redrawListener);
+        child.visibleProperty().addListener(redrawListener);
+    }
+
+    private void unregisterChild(Node child) {
+        child.boundsInParentProperty().removeListener(redrawListener);
+        child.visibleProperty().removeListener(redrawListener);
+    }
+
+    private void updateScrollPane() {
+        Parent parent = getParent();
+        while (parent != null && !(parent instanceof ScrollPane)) {
+            parent = parent.getParent();
+        }
+        if (parent != scrollPane) {
+            if (scrollPane != null) {
+                scrollPane.vvalueProperty().removeListener(redrawListener);
+                scrollPane.hvalueProperty().removeListener(redrawListener);
+                scrollPane.viewportBoundsProperty().removeListener(redrawListener);
+            }
+            scrollPane = (ScrollPane) parent;
+            if (scrollPane != null) {
+                scrollPane.vvalueProperty().addListener(redrawListener);
+                scrollPane.hvalueProperty().addListener(redrawListener);
+                scrollPane.viewportBoundsProperty().addListener(redrawListener);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void layoutChildren() {
+        drawing = true;
+        try {
+            super.layoutChildren();
+            // lay out the content now, so the shadows are drawn at the new children bounds
+            if (getContent() instanceof Parent) {
+                ((Parent) getContent()).layout();
+            }
+            drawShadows();
+        } finally {
+            drawing = false;
+        }
+    }
+
+    private void drawShadows() {
+        Bounds visible = getLayoutBounds();
+        if (scrollPane != null) {
+            Bounds viewport = sceneToLocal(scrollPane.localToScene(scrollPane.getLayoutBounds()));
+            if (viewport != null) {
+                visible = visible.intersects(viewport) ? intersect(visible, viewport) : null;
+            }
+        }
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        if (visible == null) {
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            return;
+        }
+        canvas.relocate(visible.getMinX(), visible.getMinY());
+        canvas.setWidth(visible.getWidth());
+        canvas.setHeight(visible.getHeight());
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        final Node content = getContent();
+        if (!(content instanceof Parent)) {
+            return;
+        }
+        gc.save();
+        gc.translate(-visible.getMinX(), -visible.getMinY());
+        for (Node child : ((Parent) content).getChildrenUnmodifiable()) {
+            final int level = getLevel(child);
+            if (level <= 0 || !child.isVisible()) {
+                continue;
+            }
+            final Bounds bounds = content.localToParent(child.localToParent(child.getLayoutBounds()));
+            final NinePatch ninePatch = getNinePatch(level);
+            if (bounds.getMaxX() + ninePatch.margin < visible.getMinX()
+                || bounds.getMinX() - ninePatch.margin > visible.getMaxX()
+                || bounds.getMaxY() + ninePatch.margin < visible.getMinY()
+                || bounds.getMinY() - ninePatch.margin > visible.getMaxY()) {
+                continue;
+            }
+            ninePatch.draw(gc, bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+        }
+        gc.restore();
+    }
+
+    private int getLevel(Node child) {
+        Integer level = getChildDepth(child);
+        final int value = level == null ? getDepth() : level;
+        return Math.min(value, JFXDepthManager.getLevels() - 1);
+    }
+
+    private static Bounds intersect(Bounds a, Bounds b) {
+        final double minX = Math.max(a.getMinX(), b.getMinX());
+        final double minY = Math.max(a.getMinY(), b.getMinY());
+        final double maxX = Math.min(a.getMaxX(), b.getMaxX());
+        final double maxY = Math.min(a.getMaxY(), b.getMaxY());
+        return new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    private static NinePatch getNinePatch(int level) {
+        if (ninePatches[level] == null) {
+            ninePatches[level] = new NinePatch(JFXDepthManager.getShadowAt(level));
+        }
+        return ninePatches[level];
+    }
+
+    /**
+     * sets the depth of a child of the layer content, overriding the layer depth.
+     * Setting the depth to 0 removes the child shadow.
+     *
+     * @param child the child of the layer content
+     * @param level the depth level of the child, or null to use the layer depth
+     */
+    public static void setChildDepth(Node child, Integer level) {
+        if (level == null) {
+            child.getProperties().remove(CHILD_DEPTH);
+        } else {
+            child.getProperties().put(CHILD_DEPTH, level);
+        }
+        for (Parent parent = child.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent instanceof JFXShadowLayer) {
+                parent.requestLayout();
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return the depth of the child, or null if it uses the layer depth
+     */
+    public static Integer getChildDepth(Node child) {
+        return child.hasProperties() ? (Integer) child.getProperties().get(CHILD_DEPTH) : null;
+    }
+
+    /**
+     * the content of the shadow layer
+     */
+    private ObjectProperty<Node> content = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<Node> contentProperty() {
+        return this.content;
+    }
+
+    /**
+     * @return the content of the shadow layer
+     */
+    public final Node getContent() {
+        return this.contentProperty().get();
+    }
+
+    /**
+     * sets the content of the shadow layer
+     *
+     * @param content the node that contains the children to draw the shadows for
+     */
+    public final void setContent(final Node content) {
+        this.contentProperty().set(content);
+    }
+
+    /**
+     * the depth level of the content children, 1 by default
+     */
+    private IntegerProperty depth = new SimpleIntegerProperty(this, "depth", 1);
+
+    public final IntegerProperty depthProperty() {
+        return this.depth;
+    }
+
+    public final int getDepth() {
+        return this.depthProperty().get();
+    }
+
+    public final void setDepth(final int depth) {
+        this.depthProperty().set(depth);
+    }
+
+    /**
+     * Initialize the style class to 'jfx-shadow-layer'.
+     * <p>
+     * This is the selector class from which CSS can be used to style
+     * this control.
+     */
+    private static final String DEFAULT_STYLE_CLASS = "jfx-shadow-layer";
+
+    private void initialize() {
+        this.getStyleClass().add(DEFAULT_STYLE_CLASS);
+    }
+
+    /**
+     * the shadow of a depth level, rendered around a square whose inside is cleared.
+     * The corners are drawn as is, and the edges are stretched along the children bounds.
+     */
+    private static final class NinePatch {
+        // the shadow extent outside of the square
+        final int margin;
+        // the part of the square corners that is affected by the shadow
+        final int corner;
+        final int size;
+        final WritableImage image;
+
+        NinePatch(DropShadow shadow) {
+            final double offset = Math.max(Math.abs(shadow.getOffsetX()), Math.abs(shadow.getOffsetY()));
+            margin = (int) Math.ceil(shadow.getRadius() + offset) + 1;
+            corner = margin;
+            final int inner = 2 * corner + 2;
+            size = inner + 2 * margin;
+
+            Rectangle square = new Rectangle(margin, margin, inner, inner);
+            square.setFill(Color.WHITE);
+            square.setEffect(shadow);
+            SnapshotParameters params = new SnapshotParameters();
+            params.setFill(Color.TRANSPARENT);
+            params.setViewport(new Rectangle2D(0, 0, size, size));
+            image = square.snapshot(params, new WritableImage(size, size));
+            // only the shadow is drawn, the children are drawn over their own area
+            PixelWriter writer = image.getPixelWriter();
+            for (int y = margin; y < margin + inner; y++) {
+                for (int x = margin; x < margin + inner; x++) {
+                    writer.setArgb(x, y, 0);
+                }
+            }
+        }
+
+        void draw(GraphicsContext gc, double x, double y, double width, double height) {
+            final double c = Math.min(corner, Math.min(width, height) / 2);
+            final double[] sx = {0, margin + c, size - margin - c, size};
+            final double[] sy = sx;
+            final double[] dx = {x - margin, x + c, x + width - c, x + width + margin};
+            final double[] dy = {y - margin, y + c, y + height - c, y + height + margin};
+            for (int row = 0; row < 3; row++) {
+                for (int col = 0; col < 3; col++) {
+                    // the center is empty
+                    if (row == 1 && col == 1) {
+                        continue;
+                    }
+                    final double destWidth = dx[col + 1] - dx[col];
+                    final double destHeight = dy[row + 1] - dy[row];
+                    if (destWidth > 0 && destHeight > 0) {
+                        gc.drawImage(image,
+                            sx[col], sy[row], sx[col + 1] - sx[col], sy[row + 1] - sy[row],
+                            dx[col], dy[row], destWidth, destHeight);
+                    }
+                }
+            }
+        }
+    }
+}
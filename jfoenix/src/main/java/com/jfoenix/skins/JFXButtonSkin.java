@@ -22,6 +22,8 @@ package com.jfoenix.skins;
 import com.jfoenix.controls.JFXButton;
 import com.jfoenix.controls.ButtonType;
 import com.jfoenix.controls.JFXRippler;
+import com.jfoenix.controls.JFXRippler.RipplerMask;
+import com.jfoenix.controls.JFXRippler.RipplerPos;
 import com.jfoenix.effects.JFXDepthManager;
 import com.jfoenix.transitions.CachedTransition;
 import com.sun.javafx.scene.control.skin.ButtonSkin;
@@ -59,7 +61,7 @@ public class JFXButtonSkin extends ButtonSkin {
     public JFXButtonSkin(JFXButton button) {
         super(button);
 
-        buttonRippler = new JFXRippler(new StackPane()) {
+        buttonRippler = new JFXRippler(new StackPane(), RipplerMask.RECT, RipplerPos.FRONT, true) {
             @Override
             protected Node getMask() {
                 StackPane mask = new StackPane();
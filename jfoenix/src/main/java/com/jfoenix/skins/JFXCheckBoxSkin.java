@@ -75,7 +75,7 @@ public class JFXCheckBoxSkin extends CheckBoxSkin {
         StackPane boxContainer = new StackPane();
         boxContainer.getChildren().add(box);
         boxContainer.setPadding(new Insets(padding));
-        rippler = new JFXRippler(boxContainer, RipplerMask.CIRCLE, JFXRippler.RipplerPos.BACK);
+        rippler = new JFXRippler(boxContainer, RipplerMask.CIRCLE, JFXRippler.RipplerPos.BACK, true);
         updateRippleColor();
 
         SVGPath shape = new SVGPath();
@@ -22,6 +22,7 @@ package com.jfoenix.skins;
 import com.jfoenix.controls.JFXRadioButton;
 import com.jfoenix.controls.JFXRippler;
 import com.jfoenix.controls.JFXRippler.RipplerMask;
+import com.jfoenix.controls.JFXRippler.RipplerPos;
 import com.sun.javafx.scene.control.skin.RadioButtonSkin;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -76,7 +77,7 @@ public class JFXRadioButtonSkin extends RadioButtonSkin {
         StackPane boxContainer = new StackPane();
         boxContainer.getChildren().addAll(radio, dot);
         boxContainer.setPadding(new Insets(padding));
-        rippler = new JFXRippler(boxContainer, RipplerMask.CIRCLE);
+        rippler = new JFXRippler(boxContainer, RipplerMask.CIRCLE, RipplerPos.FRONT, true);
         container.getChildren().add(rippler);
         AnchorPane.setRightAnchor(rippler, labelOffset);
         updateChildren();
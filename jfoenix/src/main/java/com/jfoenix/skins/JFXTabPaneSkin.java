@@ -921,7 +921,7 @@ public class JFXTabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
             inner.getStyleClass().add("tab-container");
             inner.setRotate(getSkinnable().getSide().equals(Side.BOTTOM) ? 180.0F : 0.0F);
 
-            rippler = new JFXRippler(inner, RipplerPos.FRONT);
+            rippler = new JFXRippler(inner, RipplerMask.RECT, RipplerPos.FRONT, true);
             rippler.setRipplerFill(ripplerColor);
             getChildren().addAll(rippler);
 
@@ -1200,7 +1200,7 @@ public class JFXTabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
                 arrowAnimation.play();
             });
             container.setOnMouseReleased(release -> arrowAnimation.stop());
-            JFXRippler arrowRippler = new JFXRippler(container, RipplerMask.CIRCLE, RipplerPos.BACK);
+            JFXRippler arrowRippler = new JFXRippler(container, RipplerMask.CIRCLE, RipplerPos.BACK, true);
             arrowRippler.ripplerFillProperty().bind(arrowButton.fillProperty());
             StackPane.setMargin(arrowButton, new Insets(0, 0, 0, isLeftArrow ? -4 : 4));
 
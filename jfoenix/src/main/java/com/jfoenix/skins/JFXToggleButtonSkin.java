@@ -82,7 +82,7 @@ public class JFXToggleButtonSkin extends ToggleButtonSkin {
         StackPane circlePane = new StackPane();
         circlePane.getChildren().add(circle);
         circlePane.setPadding(new Insets(14));
-        rippler = new JFXRippler(circlePane, RipplerMask.CIRCLE, RipplerPos.BACK) {
+        rippler = new JFXRippler(circlePane, RipplerMask.CIRCLE, RipplerPos.BACK, true) {
             @Override
             protected void initListeners() {
                 ripplerPane.setOnMousePressed((event) -> {
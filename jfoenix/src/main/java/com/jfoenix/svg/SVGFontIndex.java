@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.svg;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * index of the glyphs of a memory-mapped svg font file.
+ * <p>
+ * the index stores the name, byte offset and byte length of each glyph element,
+ * so a glyph path is only parsed when it's requested. The index is saved to a
+ * compact index file, and rebuilt if the font file has changed since.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SVGFontIndex {
+
+    private static final int MAGIC = 0x4A464758;
+    private static final int VERSION = 1;
+
+    private final MappedByteBuffer font;
+    private final String[] names;
+    private final int[] ids;
+    private final int[] offsets;
+    private final int[] lengths;
+
+    private SVGFontIndex(MappedByteBuffer font, String[] names, int[] ids, int[] offsets, int[] lengths) {
+        this.font = font;
+        this.names = names;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    /**
+     * maps the font file, and reads its index from the index file. The index file
+     * is created if it doesn't exist or if it's outdated.
+     */
+    static SVGFontIndex load(Path fontFile, Path indexFile) throws IOException {
+        final MappedByteBuffer font;
+        try (FileChannel channel = FileChannel.open(fontFile, StandardOpenOption.READ)) {
+            font = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        final long size = Files.size(fontFile);
+        final long modified = Files.getLastModifiedTime(fontFile).toMillis();
+        if (Files.exists(indexFile)) {
+            SVGFontIndex index = read(font, indexFile, size, modified);
+            if (index != null) {
+                return index;
+            }
+        }
+        SVGFontIndex index = build(font);
+        index.write(indexFile, size, modified);
+        return index;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String getName(int i) {
+        return names[i];
+    }
+
+    int getGlyphId(int i) {
+        return ids[i];
+    }
+
+    /**
+     * parses the path of the glyph at the specified index
+     *
+     * @return the glyph path, or null if the glyph element can't be parsed
+     */
+    String readPath(int i) {
+        final String[] glyph = parseGlyph(font, offsets[i], lengths[i]);
+        return glyph == null ? null : glyph[1];
+    }
+
+    private static SVGFontIndex read(MappedByteBuffer font, Path indexFile, long size, long modified) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != size || in.readLong() != modified) {
+                return null;
+            }
+            final int count = in.readInt();
+            // each glyph element takes at least 8 bytes (<glyph/>) of the font
+            if (count < 0 || count > font.limit() / 8) {
+                return null;
+            }
+            String[] names = new String[count];
+            int[] ids = new int[count];
+            int[] offsets = new int[count];
+            int[] lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                names[i] = in.readUTF();
+                ids[i] = in.readInt();
+                offsets[i] = in.readInt();
+                lengths[i] = in.readInt();
+                if (offsets[i] < 0 || lengths[i] <= 0 || (long) offsets[i] + lengths[i] > font.limit()) {
+                    return null;
+                }
+            }
+            return new SVGFontIndex(font, names, ids, offsets, lengths);
+        } catch (IOException e) {
+            // truncated or corrupted index, it will be rebuilt
+            return null;
+        }
+    }
+
+    private void write(Path indexFile, long size, long modified) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(size);
+            out.writeLong(modified);
+            out.writeInt(names.length);
+            for (int i = 0; i < names.length; i++) {
+                out.writeUTF(names[i]);
+                out.writeInt(ids[i]);
+                out.writeInt(offsets[i]);
+                out.writeInt(lengths[i]);
+            }
+        } catch (IOException e) {
+            // the index is still usable, it will be rebuilt on the next load
+        }
+    }
+
+    /**
+     * scans the font bytes for glyph elements, skipping comments
+     */
+    private static SVGFontIndex build(MappedByteBuffer font) {
+        List<String> names = new ArrayList<>();
+        List<int[]> entries = new ArrayList<>();
+        final int limit = font.limit();
+        int glyphId = 0;
+        for (int i = 0; i < limit; i++) {
+            if (font.get(i) != '<') {
+                continue;
+            }
+            if (startsWith(font, i + 1, "!--")) {
+                i = indexOf(font, i + 4, "-->");
+                if (i < 0) {
+                    break;
+                }
+                continue;
+            }
+            if (!startsWith(font, i + 1, "glyph") || i + 6 >= limit || !isElementNameEnd(font.get(i + 6))) {
+                continue;
+            }
+            final int end = findElementEnd(font, i + 6);
+            if (end < 0) {
+                break;
+            }
+            final String[] glyph = parseGlyph(font, i, end + 1 - i);
+            if (glyph != null && glyph[0] != null && glyph[1] != null) {
+                names.add(glyph[0]);
+                entries.add(new int[] {glyphId, i, end + 1 - i});
+            }
+            glyphId++;
+            i = end;
+        }
+        String[] namesArray = names.toArray(new String[names.size()]);
+        int[] ids = new int[entries.size()];
+        int[] offsets = new int[entries.size()];
+        int[] lengths = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            ids[i] = entries.get(i)[0];
+            offsets[i] = entries.get(i)[1];
+            lengths[i] = entries.get(i)[2];
+        }
+        return new SVGFontIndex(font, namesArray, ids, offsets, lengths);
+    }
+
+    /**
+     * parses a single glyph element
+     *
+     * @return the glyph-name and d attributes, or null if the element can't be parsed
+     */
+    private static String[] parseGlyph(ByteBuffer font, int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer buffer = font.duplicate();
+        buffer.position(offset);
+        buffer.get(bytes);
+        String element = new String(bytes, StandardCharsets.UTF_8);
+        if (!element.endsWith("/>")) {
+            element += "</glyph>";
+        }
+        XMLStreamReader reader = null;
+        try {
+            reader = SVGGlyphLoader.createReader(new StringReader(element));
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return new String[] {reader.getAttributeValue(null, "glyph-name"), reader.getAttributeValue(null, "d")};
+                }
+            }
+        } catch (XMLStreamException e) {
+            // not a glyph element, the index may be outdated
+        } finally {
+            SVGGlyphLoader.close(reader);
+        }
+        return null;
+    }
+
+    private static boolean isElementNameEnd(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '/' || b == '>';
+    }
+
+    /**
+     * @return the index of the '>' closing the element start tag, quoted attribute values are skipped
+     */
+    private static int findElementEnd(ByteBuffer font, int from) {
+        byte quote = 0;
+        for (int i = from; i < font.limit(); i++) {
+            final byte b = font.get(i);
+            if (quote != 0) {
+                if (b == quote) {
+                    quote = 0;
+                }
+            } else if (b == '"' || b == '\'') {
+                quote = b;
+            } else if (b == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(ByteBuffer font, int from, String token) {
+        if (from + token.length() > font.limit()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (font.get(from + i) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the index of the last byte of the token, or -1 if it's not found
+     */
+    private static int indexOf(ByteBuffer font, int from, String token) {
+        for (int i = from; i < font.limit(); i++) {
+            if (startsWith(font, i, token)) {
+                return i + token.length() - 1;
+            }
+        }
+        return -1;
+    }
+}
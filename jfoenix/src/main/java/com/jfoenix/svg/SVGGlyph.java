@@ -19,8 +19,13 @@
 
 package com.jfoenix.svg;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.Pane;
@@ -44,6 +49,14 @@ public class SVGGlyph extends Pane {
 
     private ObjectProperty<Paint> fill = new SimpleObjectProperty<>();
 
+    private ImageView imageView;
+    private SVGGlyphAtlas.Entry atlasEntry;
+    private boolean listeningToAtlas = false;
+    private final InvalidationListener atlasListener = o -> {
+        atlasEntry = null;
+        requestLayout();
+    };
+
     /**
      * Constructs SVGGlyph node for a specified svg content and color
      * <b>Note:</b> name and glyphId is not needed when creating a single SVG image,
@@ -55,22 +68,42 @@ public class SVGGlyph extends Pane {
      * @param fill           svg color
      */
     public SVGGlyph(int glyphId, String name, String svgPathContent, Paint fill) {
+        this(glyphId, name, createShape(svgPathContent), fill);
+    }
+
+    /**
+     * Constructs SVGGlyph node for a shared svg shape, the shape must not be modified
+     * as it's used by all the glyphs created by {@link SVGGlyphLoader} for the same icon.
+     */
+    SVGGlyph(int glyphId, String name, SVGPath shape, Paint fill) {
         this.glyphId = glyphId;
         this.name = name;
         getStyleClass().add(DEFAULT_STYLE_CLASS);
-        this.fill.addListener((observable, oldValue, newValue) -> setBackground(new Background(new BackgroundFill(
-            newValue,
-            null,
-            null))));
+        this.fill.addListener((observable, oldValue, newValue) -> updateBackground());
+        this.rasterized.addListener((o, oldVal, newVal) -> {
+            if (newVal && !listeningToAtlas) {
+                listeningToAtlas = true;
+                SVGGlyphAtlas.generationProperty().addListener(new WeakInvalidationListener(atlasListener));
+            } else if (!newVal) {
+                atlasEntry = null;
+                getChildren().remove(imageView);
+            }
+            updateBackground();
+        });
+        shapeProperty().addListener((o, oldVal, newVal) -> atlasListener.invalidated(o));
 
-        SVGPath shape = new SVGPath();
-        shape.setContent(svgPathContent);
         setShape(shape);
         setFill(fill);
 
         setPrefSize(DEFAULT_PREF_SIZE, DEFAULT_PREF_SIZE);
     }
 
+    static SVGPath createShape(String svgPathContent) {
+        SVGPath shape = new SVGPath();
+        shape.setContent(svgPathContent);
+        return shape;
+    }
+
     /**
      * @return current svg id
      */
@@ -100,6 +133,69 @@ public class SVGGlyph extends Pane {
         return fill.getValue();
     }
 
+    private void updateBackground() {
+        if (isRasterized()) {
+            setBackground(null);
+            atlasEntry = null;
+            requestLayout();
+        } else {
+            setBackground(new Background(new BackgroundFill(getFill(), null, null)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void layoutChildren() {
+        super.layoutChildren();
+        if (isRasterized()) {
+            SVGGlyphAtlas.Entry entry = SVGGlyphAtlas.get((SVGPath) getShape(), getWidth(), getHeight(), getFill());
+            if (entry == null) {
+                // the glyph can't be rasterized, render its shape instead
+                getChildren().remove(imageView);
+                setBackground(new Background(new BackgroundFill(getFill(), null, null)));
+                return;
+            }
+            if (entry != atlasEntry) {
+                atlasEntry = entry;
+                if (imageView == null) {
+                    imageView = new ImageView();
+                    imageView.setManaged(false);
+                    imageView.setSmooth(true);
+                }
+                imageView.setImage(entry.page.image);
+                imageView.setViewport(entry.viewport);
+                if (!getChildren().contains(imageView)) {
+                    getChildren().add(imageView);
+                }
+                setBackground(null);
+            }
+            imageView.setFitWidth(getWidth());
+            imageView.setFitHeight(getHeight());
+            imageView.relocate(0, 0);
+        }
+    }
+
+    /**
+     * rasterized property, if true the glyph is rasterized once per size and fill into
+     * the shared {@link SVGGlyphAtlas} and shown as an image, instead of rendering its shape.
+     * It should be used for glyphs that are shown in large numbers with few sizes and colors.
+     */
+    private BooleanProperty rasterized = new SimpleBooleanProperty(this, "rasterized", false);
+
+    public BooleanProperty rasterizedProperty() {
+        return rasterized;
+    }
+
+    public boolean isRasterized() {
+        return rasterized.get();
+    }
+
+    public void setRasterized(boolean rasterized) {
+        this.rasterized.set(rasterized);
+    }
+
     /**
      * resize the svg to a certain width and height
      *
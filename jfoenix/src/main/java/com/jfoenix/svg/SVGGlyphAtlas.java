@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.svg;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.transform.Transform;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared texture atlas of the rasterized {@link SVGGlyph} nodes.
+ * <p>
+ * each glyph is rasterized once per (path, pixel size, fill) at the current render scale,
+ * into large atlas pages, and displayed by the glyph nodes through image view viewports.
+ * When all the pages are full, the least recently used page is recycled, unless all the
+ * pages are in use, in which case the new glyphs are rendered as shapes.
+ * The atlas is cleared when the render scale is changed, so the glyphs are rasterized
+ * again for the new scale. JavaFX 8 doesn't expose the output scale of the screens, so
+ * HiDPI applications should update {@link #renderScaleProperty()} with the scale of
+ * their windows.
+ * <p>
+ * the atlas must only be used on the JavaFX application thread.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SVGGlyphAtlas {
+
+    private static final int PAGE_SIZE = 1024;
+    private static final int MAX_PAGES = 4;
+    // space between the glyphs, so the viewports don't bleed into each other
+    private static final int PADDING = 1;
+
+    private static final Map<Key, Entry> entries = new HashMap<>();
+    private static final List<Page> pages = new ArrayList<>();
+    // the page that the glyphs are currently added to
+    private static Page currentPage;
+    // incremented on each lookup, it's used to find the least recently used page
+    private static long tick = 0;
+    private static int shelfX = 0;
+    private static int shelfY = 0;
+    private static int shelfHeight = 0;
+
+    // incremented each time the atlas is cleared or a page is recycled, the glyphs listen to it to refresh their images
+    private static final ReadOnlyIntegerWrapper generation = new ReadOnlyIntegerWrapper();
+
+    private static final DoubleProperty renderScale = new SimpleDoubleProperty(1) {
+        @Override
+        protected void invalidated() {
+            clear();
+        }
+    };
+
+    private SVGGlyphAtlas() {
+    }
+
+    /**
+     * the scale that the glyphs are rasterized at, e.g 2 for retina screens
+     */
+    public static DoubleProperty renderScaleProperty() {
+        return renderScale;
+    }
+
+    public static double getRenderScale() {
+        return renderScale.get();
+    }
+
+    public static void setRenderScale(double scale) {
+        renderScale.set(scale);
+    }
+
+    /**
+     * removes all the rasterized glyphs, they will be rasterized again when they are shown
+     */
+    public static void clear() {
+        entries.clear();
+        pages.clear();
+        currentPage = null;
+        shelfX = 0;
+        shelfY = 0;
+        shelfHeight = 0;
+        generation.set(generation.get() + 1);
+    }
+
+    /**
+     * @return the number of rasterized glyphs in the atlas
+     */
+    public static int getEntriesCount() {
+        return entries.size();
+    }
+
+    static ReadOnlyIntegerProperty generationProperty() {
+        return generation.getReadOnlyProperty();
+    }
+
+    /**
+     * @return the atlas entry of the shape with the specified size and fill, it's rasterized
+     * if needed. Returns null if the glyph can't be added to the atlas.
+     */
+    static Entry get(SVGPath shape, double width, double height, Paint fill) {
+        if (shape == null || shape.getContent() == null || width <= 0 || height <= 0) {
+            return null;
+        }
+        // sizes are snapped to whole pixels, so fractional sizes share the same entries
+        final double scale = getRenderScale();
+        final int pixelWidth = (int) Math.ceil(width * scale);
+        final int pixelHeight = (int) Math.ceil(height * scale);
+        Key key = new Key(shape.getContent(), pixelWidth, pixelHeight, fill);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = rasterize(shape.getContent(), pixelWidth, pixelHeight, scale, fill);
+            if (entry != null) {
+                entries.put(key, entry);
+            }
+        }
+        if (entry != null) {
+            entry.page.lastUse = ++tick;
+        }
+        return entry;
+    }
+
+    private static Entry rasterize(String content, int pixelWidth, int pixelHeight, double scale, Paint fill) {
+        if (pixelWidth + PADDING > PAGE_SIZE || pixelHeight + PADDING > PAGE_SIZE) {
+            return null;
+        }
+        // find a free slot in the current shelf, or start a new shelf / page
+        if (shelfX + pixelWidth + PADDING > PAGE_SIZE) {
+            shelfX = 0;
+            shelfY += shelfHeight;
+            shelfHeight = 0;
+        }
+        if (currentPage == null || shelfY + pixelHeight + PADDING > PAGE_SIZE) {
+            Page page = nextPage();
+            if (page == null) {
+                return null;
+            }
+            currentPage = page;
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+        }
+
+        // the throwaway region would keep a listener on the shared glyph shape, so it renders a copy
+        SVGPath shape = new SVGPath();
+        shape.setContent(content);
+        Region region = new Region();
+        region.setShape(shape);
+        region.setBackground(new Background(new BackgroundFill(fill, null, null)));
+        region.resize(pixelWidth / scale, pixelHeight / scale);
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+        WritableImage snapshot = region.snapshot(params, null);
+
+        final int copyWidth = Math.min(pixelWidth, (int) snapshot.getWidth());
+        final int copyHeight = Math.min(pixelHeight, (int) snapshot.getHeight());
+        currentPage.image.getPixelWriter().setPixels(shelfX, shelfY, copyWidth, copyHeight, snapshot.getPixelReader(), 0, 0);
+        Entry entry = new Entry(currentPage, new Rectangle2D(shelfX, shelfY, copyWidth, copyHeight));
+        shelfX += pixelWidth + PADDING;
+        shelfHeight = Math.max(shelfHeight, pixelHeight + PADDING);
+        return entry;
+    }
+
+    /**
+     * @return a new page, or the least recently used page after removing its glyphs if
+     * the atlas is full. Returns null if all the pages were used since the current page was started.
+     */
+    private static Page nextPage() {
+        if (pages.size() < MAX_PAGES) {
+            Page page = new Page();
+            pages.add(page);
+            return page;
+        }
+        Page leastRecentlyUsed = pages.get(0);
+        for (Page page : pages) {
+            if (page.lastUse < leastRecentlyUsed.lastUse) {
+                leastRecentlyUsed = page;
+            }
+        }
+        if (leastRecentlyUsed == currentPage || leastRecentlyUsed.lastUse >= currentPage.created) {
+            // every page is still in use, recycling one would rasterize its glyphs again right away
+            return null;
+        }
+        final Page evicted = leastRecentlyUsed;
+        entries.values().removeIf(entry -> entry.page == evicted);
+        Page page = new Page();
+        pages.set(pages.indexOf(evicted), page);
+        generation.set(generation.get() + 1);
+        return page;
+    }
+
+    /**
+     * an atlas page, with the tick of its creation and of the last lookup of its glyphs
+     */
+    static final class Page {
+        final WritableImage image = new WritableImage(PAGE_SIZE, PAGE_SIZE);
+        private final long created = tick;
+        private long lastUse = tick;
+    }
+
+    /**
+     * a rasterized glyph, i.e its atlas page and its viewport in the page
+     */
+    static final class Entry {
+        final Page page;
+        final Rectangle2D viewport;
+
+        Entry(Page page, Rectangle2D viewport) {
+            this.page = page;
+            this.viewport = viewport;
+        }
+    }
+
+    private static final class Key {
+        private final String content;
+        private final int width;
+        private final int height;
+        private final Paint fill;
+
+        Key(String content, int width, int height, Paint fill) {
+            this.content = content;
+            this.width = width;
+            this.height = height;
+            this.fill = fill;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return width == other.width && height == other.height && content.equals(other.content)
+                   && (fill == null ? other.fill == null : fill.equals(other.fill));
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = content.hashCode();
+            hash = 31 * hash + width;
+            hash = 31 * hash + height;
+            return 31 * hash + (fill == null ? 0 : fill.hashCode());
+        }
+    }
+}
@@ -19,25 +19,31 @@
 
 package com.jfoenix.svg;
 
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.SVGPath;
 import javafx.scene.transform.Scale;
 import javafx.scene.transform.Translate;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.*;
-import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.Files;
-import java.util.HashMap;
+import java.net.URLDecoder;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * will load icomoon svg font file, it will create a map of the
@@ -49,11 +55,54 @@ import java.util.Set;
  */
 public class SVGGlyphLoader {
 
-    private static final HashMap<String, SVGGlyphBuilder> glyphsMap = new HashMap<>();
+    private static final ConcurrentHashMap<String, SVGGlyphBuilder> glyphsMap = new ConcurrentHashMap<>();
+
+    // parsed glyph shapes, shared by the glyph nodes
+    private static final long DEFAULT_SHAPE_CACHE_BUDGET = 4 * 1024 * 1024;
+    private static final SVGShapeCache shapeCache = new SVGShapeCache(DEFAULT_SHAPE_CACHE_BUDGET);
 
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+
+    static {
+        // disable dtd entites at runtime
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
 
+    // fonts that are being preloaded, mapped by their key prefix
+    private static final Map<String, CompletableFuture<Void>> pendingFonts = new ConcurrentHashMap<>();
+    // the time to wait for a preloaded font before returning a placeholder glyph
+    private static final long PENDING_FONT_TIMEOUT = 100;
+    // preloaded fonts that were already waited for, placeholders are returned right away afterwards
+    private static final Set<CompletableFuture<Void>> waitedFonts = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService PRELOAD_EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())), runnable -> {
+            Thread thread = new Thread(runnable, "SVGGlyphLoader-Preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    /**
+     * will retrieve icons from the glyphs map for a certain glyphName.
+     * <p>
+     * if the glyph font is being preloaded, it waits briefly for the font (only for
+     * the first glyph requested from that font), then returns a placeholder glyph
+     * that gets its shape once the font is loaded.
+     *
+     * @param glyphName the glyph name
+     * @return SVGGlyph node
+     */
     public static SVGGlyph getGlyph(String glyphName) {
-        return glyphsMap.get(glyphName).build();
+        SVGGlyphBuilder builder = getBuilder(glyphName);
+        if (builder == null) {
+            SVGGlyph placeholder = getPlaceholder(glyphName, false);
+            if (placeholder != null) {
+                return placeholder;
+            }
+            // the font may have been loaded after looking up the builder
+            builder = glyphsMap.get(glyphName);
+        }
+        return builder.build(false);
     }
 
     /**
@@ -63,14 +112,88 @@ public class SVGGlyphLoader {
      * @return SVGGlyph node
      */
     public static SVGGlyph getIcoMoonGlyph(String glyphName) {
-        SVGGlyph glyph = glyphsMap.get(glyphName).build();
+        SVGGlyphBuilder builder = getBuilder(glyphName);
+        if (builder == null) {
+            SVGGlyph placeholder = getPlaceholder(glyphName, true);
+            if (placeholder != null) {
+                return placeholder;
+            }
+            // the font may have been loaded after looking up the builder
+            builder = glyphsMap.get(glyphName);
+        }
+        // icomoon icons are flipped, the cached shape is already corrected
+        SVGGlyph flippedGlyph = builder.build(true);
+        if (flippedGlyph != null) {
+            return flippedGlyph;
+        }
+        SVGGlyph glyph = builder.build(false);
+        flipGlyph(glyph);
+        return glyph;
+    }
+
+    private static void flipGlyph(SVGGlyph glyph) {
         // we need to apply transformation to correct the icon since
         // its being after importing from icomoon
         glyph.getTransforms().add(new Scale(1, -1));
         Translate height = new Translate();
         height.yProperty().bind(Bindings.createDoubleBinding(() -> -glyph.getHeight(), glyph.heightProperty()));
         glyph.getTransforms().add(height);
-        return glyph;
+    }
+
+    /**
+     * @return the glyph builder, after waiting briefly for its font if it's being preloaded
+     * and wasn't waited for before
+     */
+    private static SVGGlyphBuilder getBuilder(String glyphName) {
+        SVGGlyphBuilder builder = glyphsMap.get(glyphName);
+        if (builder == null) {
+            CompletableFuture<Void> font = getPendingFont(glyphName);
+            if (font != null && waitedFonts.add(font)) {
+                try {
+                    font.get(PENDING_FONT_TIMEOUT, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                    // the font isn't loaded yet, a placeholder will be used
+                }
+                builder = glyphsMap.get(glyphName);
+            }
+        }
+        return builder;
+    }
+
+    private static CompletableFuture<Void> getPendingFont(String glyphName) {
+        for (Map.Entry<String, CompletableFuture<Void>> entry : pendingFonts.entrySet()) {
+            if (glyphName.startsWith(entry.getKey() + ".")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return an empty glyph that will get its shape once its font is loaded,
+     * or null if its font isn't being preloaded
+     */
+    private static SVGGlyph getPlaceholder(String glyphName, boolean icoMoon) {
+        CompletableFuture<Void> font = getPendingFont(glyphName);
+        if (font == null) {
+            return null;
+        }
+        final String prefix = glyphName.substring(0, glyphName.lastIndexOf('.') + 1);
+        final SVGGlyph placeholder = new SVGGlyph(-1, glyphName.substring(prefix.length()), (SVGPath) null, Color.BLACK);
+        font.thenRun(() -> Platform.runLater(() -> {
+            SVGGlyphBuilder builder = glyphsMap.get(glyphName);
+            if (builder != null) {
+                SVGPath shape = icoMoon ? builder.getShape(true) : null;
+                if (shape == null) {
+                    shape = builder.getShape(false);
+                    if (icoMoon) {
+                        flipGlyph(placeholder);
+                    }
+                }
+                placeholder.setShape(shape);
+            }
+        }));
+        return placeholder;
     }
 
     /**
@@ -83,41 +206,25 @@ public class SVGGlyphLoader {
     /**
      * will load SVG icons from icomoon font file (e.g font.svg)
      *
-     * @param url of the svg font file
+     * @param url of the svg font file, it can be a file or a jar entry
      * @throws IOException
      */
     public static void loadGlyphsFont(URL url) throws IOException {
-        try {
-            DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-
-            docBuilder.setEntityResolver((publicId, systemId) -> {
-                // disable dtd entites at runtime
-                return new InputSource(new StringReader(""));
-            });
-
-            File svgFontFile = new File(url.toURI());
-            Document doc = docBuilder.parse(svgFontFile);
-            doc.getDocumentElement().normalize();
-
-            NodeList glyphsList = doc.getElementsByTagName("glyph");
-            for (int i = 0; i < glyphsList.getLength(); i++) {
-                Node glyph = glyphsList.item(i);
-                Node glyphName = glyph.getAttributes().getNamedItem("glyph-name");
-                if (glyphName == null) {
-                    continue;
-                }
+        loadGlyphsFont(url.openStream(), getFileName(url));
+    }
 
-                String glyphId = glyphName.getNodeValue();
-                SVGGlyphBuilder glyphPane = new SVGGlyphBuilder(i,
-                    glyphId,
-                    glyph.getAttributes()
-                        .getNamedItem("d")
-                        .getNodeValue());
-                glyphsMap.put(svgFontFile.getName() + "." + glyphId, glyphPane);
-            }
-        } catch (ParserConfigurationException | SAXException | URISyntaxException e) {
-            e.printStackTrace();
+    /**
+     * @return the decoded name of the file of the specified url, it's used as a key prefix of its glyphs
+     */
+    private static String getFileName(URL url) {
+        String path = url.getPath();
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        try {
+            // '+' is not an encoded space in url paths
+            return URLDecoder.decode(name.replace("+", "%2B"), "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            // malformed escape sequences are kept as is
+            return name;
         }
     }
 
@@ -129,38 +236,81 @@ public class SVGGlyphLoader {
      * @throws IOException
      */
     public static void loadGlyphsFont(InputStream stream, String keyPrefix) throws IOException {
+        // the font is streamed, only the glyph name and path are kept
+        XMLStreamReader reader = null;
         try {
-            DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-
-            docBuilder.setEntityResolver((publicId, systemId) -> {
-                // disable dtd entites at runtime
-                return new InputSource(new StringReader(""));
-            });
-
-            Document doc = docBuilder.parse(stream);
-            doc.getDocumentElement().normalize();
-
-            NodeList glyphsList = doc.getElementsByTagName("glyph");
-            for (int i = 0; i < glyphsList.getLength(); i++) {
-                Node glyph = glyphsList.item(i);
-                Node glyphName = glyph.getAttributes().getNamedItem("glyph-name");
-                if (glyphName == null) {
+            reader = createReader(new BufferedInputStream(stream));
+            int i = 0;
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !"glyph".equals(reader.getLocalName())) {
                     continue;
                 }
-
-                String glyphId = glyphName.getNodeValue();
-                SVGGlyphBuilder glyphPane = new SVGGlyphBuilder(i,
-                    glyphId,
-                    glyph.getAttributes()
-                        .getNamedItem("d")
-                        .getNodeValue());
-                glyphsMap.put(keyPrefix + "." + glyphId, glyphPane);
+                String glyphId = reader.getAttributeValue(null, "glyph-name");
+                String svgPathContent = reader.getAttributeValue(null, "d");
+                if (glyphId != null && svgPathContent != null) {
+                    putGlyph(keyPrefix + "." + glyphId, new SVGGlyphBuilder(i, glyphId, svgPathContent));
+                }
+                i++;
             }
-            stream.close();
-        } catch (ParserConfigurationException | SAXException e) {
-            // TODO Auto-generated catch block
+        } catch (XMLStreamException e) {
             e.printStackTrace();
+        } finally {
+            close(reader);
+            stream.close();
+        }
+    }
+
+    /**
+     * will load SVG icons from several icomoon font files in parallel, on background threads.
+     * the glyphs of each font are stored using the font file name as a prefix, same as
+     * {@link #loadGlyphsFont(URL)}.
+     * <p>
+     * until a font is loaded, {@link #getGlyph(String)} and {@link #getIcoMoonGlyph(String)}
+     * wait briefly for it once, then return a placeholder glyph that is updated once the font is ready.
+     *
+     * @param urls of the svg font files
+     * @return a future that is completed when all fonts are loaded
+     */
+    public static CompletableFuture<Void> preloadGlyphsFonts(URL... urls) {
+        CompletableFuture<?>[] fonts = new CompletableFuture<?>[urls.length];
+        for (int i = 0; i < urls.length; i++) {
+            final URL url = urls[i];
+            final String keyPrefix = getFileName(url);
+            final CompletableFuture<Void> font = new CompletableFuture<>();
+            pendingFonts.put(keyPrefix, font);
+            PRELOAD_EXECUTOR.execute(() -> {
+                try {
+                    loadGlyphsFont(url);
+                    font.complete(null);
+                } catch (IOException | RuntimeException e) {
+                    e.printStackTrace();
+                    font.completeExceptionally(new CompletionException(e));
+                } finally {
+                    pendingFonts.remove(keyPrefix, font);
+                    waitedFonts.remove(font);
+                }
+            });
+            fonts[i] = font;
+        }
+        return CompletableFuture.allOf(fonts);
+    }
+
+    /**
+     * will load SVG icons from an svg font file using an index file, the font file is
+     * memory-mapped and each glyph is only parsed when it's first requested.
+     * <p>
+     * the index file holds the name and byte offset of each glyph, it's created
+     * on the first load and recreated whenever the font file changes.
+     *
+     * @param fontFile  the svg font file
+     * @param indexFile the index file of the font
+     * @param keyPrefix will be used as a prefix when storing SVG icons in the map
+     * @throws IOException
+     */
+    public static void loadGlyphsFont(Path fontFile, Path indexFile, String keyPrefix) throws IOException {
+        SVGFontIndex index = SVGFontIndex.load(fontFile, indexFile);
+        for (int i = 0; i < index.size(); i++) {
+            putGlyph(keyPrefix + "." + index.getName(i), new SVGGlyphBuilder(index, i));
         }
     }
 
@@ -196,6 +346,53 @@ public class SVGGlyphLoader {
      */
     public static void clear() {
         glyphsMap.clear();
+        shapeCache.clear();
+    }
+
+    /**
+     * sets the memory budget of the glyph shapes cache, the least recently used
+     * shapes are evicted once the estimated cache size exceeds it
+     *
+     * @param budget in bytes, 4MB by default
+     */
+    public static void setShapeCacheBudget(long budget) {
+        shapeCache.setBudget(budget);
+    }
+
+    public static long getShapeCacheBudget() {
+        return shapeCache.getBudget();
+    }
+
+    /**
+     * @return the estimated size in bytes of the cached glyph shapes
+     */
+    public static long getShapeCacheSize() {
+        return shapeCache.getSize();
+    }
+
+    private static void putGlyph(String key, SVGGlyphBuilder builder) {
+        SVGGlyphBuilder old = glyphsMap.put(key, builder);
+        if (old != null) {
+            shapeCache.remove(old);
+        }
+    }
+
+    static XMLStreamReader createReader(InputStream stream) throws XMLStreamException {
+        return inputFactory.createXMLStreamReader(stream);
+    }
+
+    static XMLStreamReader createReader(Reader reader) throws XMLStreamException {
+        return inputFactory.createXMLStreamReader(reader);
+    }
+
+    static void close(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                e.printStackTrace();
+            }
+        }
     }
 
     private static String extractSvgPath(String svgString) {
@@ -230,6 +427,9 @@ public class SVGGlyphLoader {
         private int glyphId;
         private String name;
         private String svgPathContent;
+        // the font index of a glyph that is parsed on demand
+        private SVGFontIndex index;
+        private int indexEntry;
 
         SVGGlyphBuilder(int glyphId, String name, String svgPathContent) {
             this.glyphId = glyphId;
@@ -237,8 +437,48 @@ public class SVGGlyphLoader {
             this.svgPathContent = svgPathContent;
         }
 
-        SVGGlyph build() {
-            return new SVGGlyph(glyphId, name, svgPathContent, Color.BLACK);
+        SVGGlyphBuilder(SVGFontIndex index, int indexEntry) {
+            this.glyphId = index.getGlyphId(indexEntry);
+            this.name = index.getName(indexEntry);
+            this.index = index;
+            this.indexEntry = indexEntry;
+        }
+
+        private synchronized String getSvgPathContent() {
+            if (svgPathContent == null && index != null) {
+                svgPathContent = index.readPath(indexEntry);
+                index = null;
+            }
+            return svgPathContent;
+        }
+
+        /**
+         * @param flipped whether the glyph shape is flipped vertically
+         * @return the cached shape of the glyph, or null if the shape can't be flipped
+         */
+        SVGPath getShape(boolean flipped) {
+            SVGPath shape = shapeCache.get(this, flipped);
+            if (shape == null) {
+                String content = getSvgPathContent();
+                if (flipped) {
+                    content = content == null ? null : SVGShapeCache.flipPath(content);
+                    if (content == null) {
+                        return null;
+                    }
+                }
+                shape = SVGGlyph.createShape(content);
+                shapeCache.put(this, flipped, shape);
+            }
+            return shape;
+        }
+
+        /**
+         * @param flipped whether the glyph shape is flipped vertically
+         * @return a glyph that shares the cached shape, or null if the shape can't be flipped
+         */
+        SVGGlyph build(boolean flipped) {
+            SVGPath shape = getShape(flipped);
+            return shape == null ? null : new SVGGlyph(glyphId, name, shape, Color.BLACK);
         }
     }
 }
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.svg;
+
+import javafx.scene.shape.SVGPath;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of the glyph shapes, shared by all {@link SVGGlyph} nodes of the same glyph.
+ * <p>
+ * a shape is never modified once it's cached, so the path is parsed only once for all
+ * the glyph nodes. The cache size is estimated from the length of the cached paths, and
+ * the least recently used shapes are evicted once it exceeds the memory budget.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SVGShapeCache {
+
+    // estimated size of a cached path: its content and parsed geometry, per path character
+    private static final int BYTES_PER_CHAR = 4;
+    private static final int SHAPE_OVERHEAD = 128;
+
+    private final Map<Key, SVGPath> shapes = new LinkedHashMap<>(64, 0.75f, true);
+    private long budget;
+    private long size = 0;
+
+    SVGShapeCache(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * @param owner   the glyph that owns the shape
+     * @param flipped whether the shape is flipped vertically (icomoon glyphs)
+     * @return the cached shape, or null if it's not cached
+     */
+    synchronized SVGPath get(Object owner, boolean flipped) {
+        return shapes.get(new Key(owner, flipped));
+    }
+
+    synchronized void put(Object owner, boolean flipped, SVGPath shape) {
+        SVGPath old = shapes.put(new Key(owner, flipped), shape);
+        if (old != null) {
+            size -= estimateSize(old);
+        }
+        size += estimateSize(shape);
+        evict();
+    }
+
+    synchronized void remove(Object owner) {
+        for (boolean flipped : new boolean[] {false, true}) {
+            SVGPath old = shapes.remove(new Key(owner, flipped));
+            if (old != null) {
+                size -= estimateSize(old);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        shapes.clear();
+        size = 0;
+    }
+
+    synchronized void setBudget(long budget) {
+        this.budget = budget;
+        evict();
+    }
+
+    synchronized long getBudget() {
+        return budget;
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    private void evict() {
+        for (Iterator<SVGPath> iterator = shapes.values().iterator(); size > budget && iterator.hasNext(); ) {
+            size -= estimateSize(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private static long estimateSize(SVGPath shape) {
+        return SHAPE_OVERHEAD + (shape.getContent() == null ? 0 : (long) BYTES_PER_CHAR * shape.getContent().length());
+    }
+
+    /**
+     * flips the path vertically, by negating the y coordinates. Arcs rotation
+     * and sweep flag are inverted as well.
+     *
+     * @return the flipped path, or null if the path can't be parsed
+     */
+    static String flipPath(String path) {
+        final int length = path.length();
+        final StringBuilder flipped = new StringBuilder(length + length / 8);
+        char command = 0;
+        int param = 0;
+        int pos = 0;
+        while (pos < length) {
+            final char c = path.charAt(pos);
+            if (c == ' ' || c == ',' || c == '\t' || c == '\n' || c == '\r') {
+                pos++;
+                continue;
+            }
+            if (Character.isLetter(c) && c != 'e' && c != 'E') {
+                if (c != 'z' && c != 'Z' && getParamsCount(c) == 0) {
+                    return null;
+                }
+                command = c;
+                param = 0;
+                flipped.append(c);
+                pos++;
+                continue;
+            }
+            final int count = getParamsCount(command);
+            if (count == 0) {
+                return null;
+            }
+            final int index = param % count;
+            final char upper = Character.toUpperCase(command);
+            if (upper == 'A' && (index == 3 || index == 4)) {
+                // arc flags are single digits, that may not be separated
+                if (c != '0' && c != '1') {
+                    return null;
+                }
+                flipped.append(' ').append(index == 4 ? (c == '0' ? '1' : '0') : c);
+                pos++;
+            } else {
+                final int end = getNumberEnd(path, pos);
+                if (end == pos) {
+                    return null;
+                }
+                flipped.append(' ');
+                if (isY(upper, index)) {
+                    if (c == '-') {
+                        flipped.append(path, pos + 1, end);
+                    } else {
+                        flipped.append('-').append(path, c == '+' ? pos + 1 : pos, end);
+                    }
+                } else {
+                    flipped.append(path, pos, end);
+                }
+                pos = end;
+            }
+            param++;
+        }
+        return flipped.toString();
+    }
+
+    private static int getParamsCount(char command) {
+        switch (Character.toUpperCase(command)) {
+            case 'H':
+            case 'V':
+                return 1;
+            case 'M':
+            case 'L':
+            case 'T':
+                return 2;
+            case 'S':
+            case 'Q':
+                return 4;
+            case 'C':
+                return 6;
+            case 'A':
+                return 7;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * @return true if the parameter at the specified index is a y coordinate or an arc rotation
+     */
+    private static boolean isY(char command, int index) {
+        switch (command) {
+            case 'V':
+                return true;
+            case 'H':
+                return false;
+            case 'A':
+                return index == 2 || index == 6;
+            default:
+                return index % 2 == 1;
+        }
+    }
+
+    private static int getNumberEnd(String path, int pos) {
+        final int length = path.length();
+        int i = pos;
+        if (i < length && (path.charAt(i) == '-' || path.charAt(i) == '+')) {
+            i++;
+        }
+        boolean digits = false;
+        boolean dot = false;
+        while (i < length) {
+            final char c = path.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                i++;
+            } else if (c == '.' && !dot) {
+                dot = true;
+                i++;
+            } else {
+                break;
+            }
+        }
+        if (!digits) {
+            return pos;
+        }
+        if (i < length && (path.charAt(i) == 'e' || path.charAt(i) == 'E')) {
+            int exponent = i + 1;
+            if (exponent < length && (path.charAt(exponent) == '-' || path.charAt(exponent) == '+')) {
+                exponent++;
+            }
+            if (exponent < length && Character.isDigit(path.charAt(exponent))) {
+                i = exponent;
+                while (i < length && Character.isDigit(path.charAt(i))) {
+                    i++;
+                }
+            }
+        }
+        return i;
+    }
+
+    private static final class Key {
+        private final Object owner;
+        private final boolean flipped;
+
+        Key(Object owner, boolean flipped) {
+            this.owner = owner;
+            this.flipped = flipped;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return owner == other.owner && flipped == other.flipped;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(owner) + (flipped ? 1 : 0);
+        }
+    }
+}
@@ -23,54 +23,103 @@ import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.layout.Region;
 
-import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
+/**
+ * caches a node while it's being animated, and restores its cache properties
+ * (cache, cacheHint, cacheShape and snapToPixel) afterwards.
+ * <p>
+ * the cached nodes are reference counted, so if several animations cache the
+ * same node, its original properties are restored only when the last one
+ * of them is restored. Nodes are weakly referenced, so a node that is never
+ * restored can still be garbage collected.
+ */
 public class CacheMomento {
-    private static HashMap<Node, CacheMomento> history = new HashMap<>();
+    private static final Map<Node, CacheState> history = new WeakHashMap<>();
 
-    private boolean cache;
-    private boolean cacheShape;
-    private boolean snapToPixel;
-    private CacheHint cacheHint = CacheHint.DEFAULT;
-    private Node node;
+    private final Node node;
+    private boolean cached = false;
 
     public CacheMomento(Node node) {
         this.node = node;
     }
 
     /**
-     * this method will cache the node only if it wasn't cached before
+     * this method will cache the node, the node properties are only saved
+     * if it wasn't cached by another momento
      */
     public void cache() {
-        if (!history.containsKey(node)) {
-            this.cache = node.isCache();
-            this.cacheHint = node.getCacheHint();
-            node.setCache(true);
-            node.setCacheHint(CacheHint.SPEED);
-            if (node instanceof Region) {
-                this.cacheShape = ((Region) node).isCacheShape();
-                this.snapToPixel = ((Region) node).isSnapToPixel();
-                ((Region) node).setCacheShape(true);
-                ((Region) node).setSnapToPixel(true);
+        synchronized (history) {
+            if (cached) {
+                return;
+            }
+            cached = true;
+            CacheState state = history.get(node);
+            if (state == null) {
+                state = new CacheState(node);
+                node.setCache(true);
+                node.setCacheHint(CacheHint.SPEED);
+                if (node instanceof Region) {
+                    ((Region) node).setCacheShape(true);
+                    ((Region) node).setSnapToPixel(true);
+                }
+                history.put(node, state);
             }
-            history.put(node, this);
-        } else {
-            CacheMomento cached = new CacheMomento(node);
-            this.cache = cached.cache;
-            this.cacheHint = cached.cacheHint;
-            this.cacheShape = cached.cacheShape;
-            this.snapToPixel = cached.snapToPixel;
+            state.count++;
         }
-
     }
 
+    /**
+     * releases the node, its original properties are restored if
+     * no other momento is caching it
+     */
     public void restore() {
-        node.setCache(cache);
-        node.setCacheHint(cacheHint);
-        if (node instanceof Region) {
-            ((Region) node).setCacheShape(cacheShape);
-            ((Region) node).setSnapToPixel(snapToPixel);
+        synchronized (history) {
+            if (!cached) {
+                return;
+            }
+            cached = false;
+            CacheState state = history.get(node);
+            if (state != null && --state.count == 0) {
+                history.remove(node);
+                node.setCache(state.cache);
+                node.setCacheHint(state.cacheHint);
+                if (node instanceof Region) {
+                    ((Region) node).setCacheShape(state.cacheShape);
+                    ((Region) node).setSnapToPixel(state.snapToPixel);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of nodes that are currently cached
+     */
+    public static int getCachedNodesCount() {
+        synchronized (history) {
+            return history.size();
+        }
+    }
+
+    /**
+     * the original properties of a cached node, it must not reference the node
+     * as it's used as a value of the weak history map
+     */
+    private static final class CacheState {
+        private final boolean cache;
+        private final CacheHint cacheHint;
+        private boolean cacheShape;
+        private boolean snapToPixel;
+        private int count = 0;
+
+        CacheState(Node node) {
+            cache = node.isCache();
+            cacheHint = node.getCacheHint();
+            if (node instanceof Region) {
+                cacheShape = ((Region) node).isCacheShape();
+                snapToPixel = ((Region) node).isSnapToPixel();
+            }
         }
-        history.remove(node);
     }
 }
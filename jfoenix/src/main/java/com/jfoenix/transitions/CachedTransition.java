@@ -19,15 +19,21 @@
 
 package com.jfoenix.transitions;
 
+import javafx.animation.Animation.Status;
 import javafx.animation.Timeline;
 import javafx.animation.Transition;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.scene.Node;
-import javafx.util.Duration;
 
 /**
  * applies animation on a cahced node to improve the performance
+ * <p>
+ * the key frames of the timeline are compiled into interpolation tracks, that are
+ * written directly on each frame instead of seeking the timeline. The timeline key
+ * frames are expected to be between 0 and 1 second, which is mapped to the transition
+ * cycle duration.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -38,10 +44,14 @@ public class CachedTransition extends Transition {
     protected ObjectProperty<Timeline> timeline = new SimpleObjectProperty<>();
     private CacheMomento[] momentos = new CacheMomento[0];
     private CacheMomento nodeCacheMomento;
+    private KeyFrameTracks tracks;
+    // recompile the tracks if the timeline or its key frames are changed
+    private final InvalidationListener keyFramesListener = o -> tracks = null;
 
     public CachedTransition(final Node node, final Timeline timeline) {
         this.node = node;
         this.timeline.set(timeline);
+        initTimeline();
         statusProperty().addListener((o, oldStatus, newStatus) -> {
             switch (newStatus) {
                 case RUNNING:
@@ -57,6 +67,7 @@ public class CachedTransition extends Transition {
     public CachedTransition(final Node node, final Timeline timeline, CacheMomento... cacheMomentos) {
         this.node = node;
         this.timeline.set(timeline);
+        initTimeline();
         this.momentos = cacheMomentos;
         statusProperty().addListener((o, oldStatus, newStatus) -> {
             switch (newStatus) {
@@ -70,11 +81,34 @@ public class CachedTransition extends Transition {
         });
     }
 
+    private void initTimeline() {
+        if (this.timeline.get() != null) {
+            this.timeline.get().getKeyFrames().addListener(keyFramesListener);
+        }
+        this.timeline.addListener((o, oldVal, newVal) -> {
+            if (oldVal != null) {
+                oldVal.getKeyFrames().removeListener(keyFramesListener);
+            }
+            if (newVal != null) {
+                newVal.getKeyFrames().addListener(keyFramesListener);
+            }
+            tracks = null;
+        });
+        // capture the start values of the tracks each time the transition is played
+        statusProperty().addListener((o, oldStatus, newStatus) -> {
+            if (newStatus == Status.RUNNING && oldStatus == Status.STOPPED && tracks != null) {
+                tracks.start();
+            }
+        });
+    }
+
     /**
      * Called when the animation is starting
      */
     protected void starting() {
-        nodeCacheMomento = new CacheMomento(node);
+        if (nodeCacheMomento == null) {
+            nodeCacheMomento = new CacheMomento(node);
+        }
         nodeCacheMomento.cache();
         if (momentos != null) {
             for (int i = 0; i < momentos.length; i++) {
@@ -100,7 +134,13 @@ public class CachedTransition extends Transition {
      */
     @Override
     protected void interpolate(double d) {
-        timeline.get().playFrom(Duration.seconds(d));
-        timeline.get().stop();
+        if (tracks == null) {
+            if (timeline.get() == null) {
+                return;
+            }
+            tracks = new KeyFrameTracks(timeline.get());
+            tracks.start();
+        }
+        tracks.interpolate(d);
     }
 }
@@ -58,6 +58,12 @@ public final class JFXFillTransition extends Transition {
     private CacheHint oldCacheHint = CacheHint.DEFAULT;
     private boolean oldCache = false;
 
+    // the fill is quantized into a fixed number of steps, the background of each
+    // step is created once, when it's first reached, and reused afterwards
+    private static final int STEPS = 256;
+    private Background[] backgrounds;
+    private int lastStep = -1;
+
     /***************************************************************************
      *                                                                         *
      * Properties                                                              *
@@ -285,7 +291,10 @@ public final class JFXFillTransition extends Transition {
             end = toValue.get();
             region.get().setCache(true);
             region.get().setCacheHint(CacheHint.SPEED);
+            backgrounds = new Background[STEPS];
         }
+        // the background may have been changed since the last run
+        lastStep = -1;
     }
 
     /**
@@ -304,10 +313,18 @@ public final class JFXFillTransition extends Transition {
         if (start == null) {
             starting();
         }
-        Color newColor = start.interpolate(end, frac);
-        if (Color.TRANSPARENT.equals(start)) {
-            newColor = new Color(end.getRed(), end.getGreen(), end.getBlue(), newColor.getOpacity());
+        final int step = (int) Math.round(frac * (STEPS - 1));
+        if (step == lastStep) {
+            return;
+        }
+        lastStep = step;
+        if (backgrounds[step] == null) {
+            Color newColor = start.interpolate(end, (double) step / (STEPS - 1));
+            if (Color.TRANSPARENT.equals(start)) {
+                newColor = new Color(end.getRed(), end.getGreen(), end.getBlue(), newColor.getOpacity());
+            }
+            backgrounds[step] = new Background(new BackgroundFill(newColor, radii, insets));
         }
-        region.get().setBackground(new Background(new BackgroundFill(newColor, radii, insets)));
+        region.get().setBackground(backgrounds[step]);
     }
 }
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.value.WritableDoubleValue;
+import javafx.beans.value.WritableValue;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The key frames of a timeline compiled into one track per target value.
+ * <p>
+ * Each track holds the key times, end values and interpolators of its target in
+ * arrays, so the value at a given time is computed and written directly to the
+ * target, without seeking the timeline. Same as the timeline, a target that has no
+ * key frame at time zero is interpolated from its value when the tracks are started.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class KeyFrameTracks {
+
+    private final Track[] tracks;
+
+    KeyFrameTracks(Timeline timeline) {
+        List<KeyFrame> frames = new ArrayList<>(timeline.getKeyFrames());
+        frames.sort(Comparator.comparing(KeyFrame::getTime));
+        Map<WritableValue<?>, List<KeyPoint>> points = new LinkedHashMap<>();
+        for (KeyFrame frame : frames) {
+            final Duration time = frame.getTime();
+            if (time.isIndefinite() || time.isUnknown() || time.lessThan(Duration.ZERO)) {
+                continue;
+            }
+            for (KeyValue keyValue : frame.getValues()) {
+                List<KeyPoint> targetPoints = points.get(keyValue.getTarget());
+                if (targetPoints == null) {
+                    targetPoints = new ArrayList<>();
+                    points.put(keyValue.getTarget(), targetPoints);
+                }
+                final KeyPoint point = new KeyPoint(time.toSeconds(), keyValue);
+                final int last = targetPoints.size() - 1;
+                // the last key value of a target at the same time wins
+                if (last >= 0 && targetPoints.get(last).time == point.time) {
+                    targetPoints.set(last, point);
+                } else {
+                    targetPoints.add(point);
+                }
+            }
+        }
+        tracks = new Track[points.size()];
+        int i = 0;
+        for (Map.Entry<WritableValue<?>, List<KeyPoint>> entry : points.entrySet()) {
+            tracks[i++] = createTrack(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * captures the current value of the targets that have no key frame at time zero
+     */
+    void start() {
+        for (int i = 0; i < tracks.length; i++) {
+            tracks[i].start();
+        }
+    }
+
+    /**
+     * writes the values of all targets at the specified time
+     *
+     * @param time in seconds
+     */
+    void interpolate(double time) {
+        for (int i = 0; i < tracks.length; i++) {
+            tracks[i].interpolate(time);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Track createTrack(WritableValue<?> target, List<KeyPoint> points) {
+        boolean numbers = target instanceof WritableDoubleValue;
+        for (int i = 0; numbers && i < points.size(); i++) {
+            numbers = points.get(i).value instanceof Number;
+        }
+        return numbers ? new DoubleTrack((WritableDoubleValue) target, points)
+            : new ObjectTrack((WritableValue<Object>) target, points);
+    }
+
+    private static final class KeyPoint {
+        final double time;
+        final Object value;
+        final Interpolator interpolator;
+
+        KeyPoint(double time, KeyValue keyValue) {
+            this.time = time;
+            this.value = keyValue.getEndValue();
+            this.interpolator = keyValue.getInterpolator();
+        }
+    }
+
+    /**
+     * the segments of a single target, segment i goes from times[i - 1] to times[i]
+     * using interpolators[i]
+     */
+    private abstract static class Track {
+        final double[] times;
+        final Interpolator[] interpolators;
+        // the start value is captured from the target
+        final boolean captureStart;
+        // the last used segment, as consecutive frames usually fall in the same segment
+        private int segment = 1;
+
+        Track(List<KeyPoint> points) {
+            captureStart = points.get(0).time > 0;
+            final int offset = captureStart ? 1 : 0;
+            times = new double[points.size() + offset];
+            interpolators = new Interpolator[times.length];
+            for (int i = 0; i < points.size(); i++) {
+                times[i + offset] = points.get(i).time;
+                interpolators[i + offset] = points.get(i).interpolator;
+            }
+        }
+
+        final void interpolate(double time) {
+            final int last = times.length - 1;
+            if (last == 0 || time >= times[last]) {
+                apply(last, 1);
+                return;
+            }
+            if (time <= 0) {
+                apply(0, 1);
+                return;
+            }
+            int i = segment;
+            if (time < times[i - 1] || time >= times[i]) {
+                i = 1;
+                while (time >= times[i]) {
+                    i++;
+                }
+                segment = i;
+            }
+            apply(i, (time - times[i - 1]) / (times[i] - times[i - 1]));
+        }
+
+        /**
+         * writes the value of segment i at the specified fraction
+         */
+        abstract void apply(int i, double fraction);
+
+        abstract void start();
+    }
+
+    private static final class DoubleTrack extends Track {
+        private final WritableDoubleValue target;
+        private final double[] values;
+
+        DoubleTrack(WritableDoubleValue target, List<KeyPoint> points) {
+            super(points);
+            this.target = target;
+            values = new double[times.length];
+            final int offset = captureStart ? 1 : 0;
+            for (int i = 0; i < points.size(); i++) {
+                values[i + offset] = ((Number) points.get(i).value).doubleValue();
+            }
+        }
+
+        @Override
+        void start() {
+            if (captureStart) {
+                values[0] = target.get();
+            }
+        }
+
+        @Override
+        void apply(int i, double fraction) {
+            target.set(i == 0 || fraction >= 1 ? values[i]
+                : interpolators[i].interpolate(values[i - 1], values[i], fraction));
+        }
+    }
+
+    private static final class ObjectTrack extends Track {
+        private final WritableValue<Object> target;
+        private final Object[] values;
+
+        ObjectTrack(WritableValue<Object> target, List<KeyPoint> points) {
+            super(points);
+            this.target = target;
+            values = new Object[times.length];
+            final int offset = captureStart ? 1 : 0;
+            for (int i = 0; i < points.size(); i++) {
+                values[i + offset] = points.get(i).value;
+            }
+        }
+
+        @Override
+        void start() {
+            if (captureStart) {
+                values[0] = target.getValue();
+            }
+        }
+
+        @Override
+        void apply(int i, double fraction) {
+            target.setValue(i == 0 || fraction >= 1 ? values[i]
+                : interpolators[i].interpolate(values[i - 1], values[i], fraction));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix;
+
+import com.sun.javafx.application.PlatformImpl;
+import javafx.application.Platform;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * FX thread helpers of the unit tests
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class FXTestUtils {
+
+    private FXTestUtils() {
+    }
+
+    /**
+     * starts the JavaFX toolkit if it's not started yet
+     */
+    public static void startToolkit() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        PlatformImpl.startup(latch::countDown);
+        latch.await(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * runs the specified task on the FX thread and waits for it, assertion errors
+     * and exceptions thrown by the task are rethrown in the calling thread
+     */
+    public static void runInFX(Runnable task) throws Exception {
+        final FutureTask<Void> future = new FutureTask<>(task, null);
+        Platform.runLater(future);
+        try {
+            future.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (Exception) e.getCause();
+        }
+    }
+
+    /**
+     * waits for the FX thread to run all the tasks posted before this call
+     */
+    public static void waitForFX() throws Exception {
+        runInFX(() -> {
+        });
+    }
+
+    /**
+     * waits until the specified condition is true, checking it on the FX thread
+     */
+    public static void waitFor(BooleanSupplier condition, long timeoutMillis) throws Exception {
+        final long end = System.currentTimeMillis() + timeoutMillis;
+        final boolean[] done = new boolean[1];
+        while (true) {
+            runInFX(() -> done[0] = condition.getAsBoolean());
+            if (done[0]) {
+                return;
+            }
+            if (System.currentTimeMillis() > end) {
+                throw new TimeoutException("condition not met within " + timeoutMillis + "ms");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.FXTestUtils;
+import com.jfoenix.controls.JFXMasonryPane.BlockSize;
+import com.jfoenix.controls.JFXMasonryPane.LayoutMode;
+import com.jfoenix.controls.JFXMasonryPane.OccupancyIndex;
+import javafx.geometry.BoundingBox;
+import javafx.scene.layout.Region;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JFXMasonryPaneTest {
+
+    private static final LayoutMode MASONRY = LayoutMode.MASONRY;
+    private static final LayoutMode BIN_PACKING = LayoutMode.BIN_PACKING;
+
+    @BeforeClass
+    public static void startToolkit() throws InterruptedException {
+        FXTestUtils.startToolkit();
+    }
+
+    @Test
+    public void occupancyIndexTracksOccupiedCells() {
+        OccupancyIndex index = new OccupancyIndex(4, 10);
+        assertEquals(0, index.getHeight());
+        assertTrue(index.isFree(0, 0, 4, 10));
+
+        index.occupy(0, 1, 2, 3);
+        assertEquals(3, index.getHeight());
+        assertFalse(index.isFree(2, 2, 1, 1));
+        assertTrue(index.isFree(0, 3, 1, 10));
+        assertTrue(index.isFree(3, 0, 4, 7));
+        assertEquals(0, index.nextFreeColumn(1, 0));
+        assertEquals(3, index.nextFreeColumn(1, 1));
+        assertEquals(1, index.nextOccupiedColumn(1, 0));
+        assertEquals(-1, index.nextOccupiedColumn(1, 3));
+        assertEquals(-1, index.nextOccupiedColumn(5, 0));
+        assertEquals(0, index.nextFreeColumn(5, 0));
+        assertEquals(3, index.getSkyline(1));
+        assertEquals(0, index.getSkyline(3));
+        assertEquals(0, index.getLowestSkyline());
+        assertEquals(0, index.getFirstOpenRow());
+    }
+
+    @Test
+    public void occupancyIndexSkipsFullRows() {
+        OccupancyIndex index = new OccupancyIndex(3, 10);
+        index.occupy(0, 0, 2, 2);
+        index.occupy(0, 2, 1, 1);
+        assertEquals(1, index.getFirstOpenRow());
+        assertEquals(1, index.getLowestSkyline());
+        assertEquals(2, index.nextFreeColumn(1, 0));
+        index.occupy(1, 2, 1, 1);
+        assertEquals(2, index.getFirstOpenRow());
+        assertEquals(-1, index.nextFreeColumn(0, 0));
+    }
+
+    @Test
+    public void masonryPlacesBlocksUnderTheSkyline() {
+        OccupancyIndex index = new OccupancyIndex(4, 10);
+        List<BlockSize> blocks = Arrays.asList(new BlockSize(20, 10), new BlockSize(20, 10), new BlockSize(20, 10));
+        List<BoundingBox> boxes = MASONRY.fillGrid(index, blocks, 10, 10, 0, 0);
+        assertEquals(Arrays.asList(new BoundingBox(0, 0, 2, 1), new BoundingBox(0, 2, 2, 1), new BoundingBox(1, 0, 2, 1)), boxes);
+        assertEquals(2, index.getHeight());
+    }
+
+    @Test
+    public void blocksThatDontFitAreNotPlaced() {
+        OccupancyIndex index = new OccupancyIndex(2, 1);
+        List<BlockSize> blocks = Arrays.asList(new BlockSize(30, 10), new BlockSize(20, 10), new BlockSize(10, 10));
+        List<BoundingBox> boxes = BIN_PACKING.fillGrid(index, blocks, 10, 10, 0, 0);
+        assertEquals(Arrays.asList(null, new BoundingBox(0, 0, 2, 1), null), boxes);
+    }
+
+    @Test
+    public void binPackingFillsHoles() {
+        OccupancyIndex index = new OccupancyIndex(3, 10);
+        List<BlockSize> blocks = Arrays.asList(new BlockSize(20, 10), new BlockSize(30, 10), new BlockSize(10, 10));
+        List<BoundingBox> boxes = BIN_PACKING.fillGrid(index, blocks, 10, 10, 0, 0);
+        assertEquals(Arrays.asList(new BoundingBox(0, 0, 2, 1), new BoundingBox(1, 0, 3, 1), new BoundingBox(0, 2, 1, 1)), boxes);
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void matrixAdapterFillsTheMatrix() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            int[][] matrix = new int[3][3];
+            matrix[0][0] = 9;
+            Region first = createBlock(20, 10);
+            Region second = createBlock(10, 20);
+            List<BoundingBox> boxes = BIN_PACKING.fillGrid(matrix, Arrays.asList(first, second), 10, 10, 3, 3, 0, 0);
+            assertEquals(Arrays.asList(new BoundingBox(0, 1, 2, 1), new BoundingBox(1, 0, 1, 2)), boxes);
+            assertArrayEquals(new int[] {9, 1, 1}, matrix[0]);
+            assertArrayEquals(new int[] {2, 0, 0}, matrix[1]);
+            assertArrayEquals(new int[] {2, 0, 0}, matrix[2]);
+            assertNull(MASONRY.fillGrid(new int[0][], Arrays.asList(first), 10, 10, 3, 3, 0, 0));
+        });
+    }
+
+    @Test
+    public void matrixLayoutModesStillFillTheGrid() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            final LayoutMode legacy = new LayoutMode() {
+                @SuppressWarnings("deprecation")
+                @Override
+                protected List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight,
+                                                     int limitRow, int limitCol, double gutterX, double gutterY) {
+                    // stacks the blocks in the first free rows of the first column
+                    List<BoundingBox> boxes = new ArrayList<>();
+                    int row = 0;
+                    for (int b = 0; b < children.size(); b++) {
+                        while (matrix[row][0] != 0) {
+                            row++;
+                        }
+                        int rows = (int) Math.ceil(getBLockHeight(children.get(b)) / cellHeight);
+                        boxes.add(new BoundingBox(row, 0, 1, rows));
+                        fillMatrix(matrix, b + 1, row, 0, 1, rows);
+                    }
+                    return boxes;
+                }
+            };
+            OccupancyIndex index = new OccupancyIndex(2, 10);
+            index.occupy(0, 0, 1, 1);
+            List<BoundingBox> boxes = legacy.fillGrid(index, Arrays.asList(new BlockSize(10, 20), new BlockSize(10, 10)), 10, 10, 0, 0);
+            assertEquals(Arrays.asList(new BoundingBox(1, 0, 1, 2), new BoundingBox(3, 0, 1, 1)), boxes);
+            assertEquals(4, index.getHeight());
+            assertFalse(index.isFree(3, 0, 1, 1));
+        });
+    }
+
+    @Test
+    public void blockHeightIsComputedForTheMinWidth() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            Region region = new Region() {
+                @Override
+                protected double computePrefHeight(double width) {
+                    return width / 2;
+                }
+            };
+            region.setMinWidth(40);
+            BlockSize size = BlockSize.of(region);
+            assertEquals(40, size.getWidth(), 0);
+            assertEquals(20, size.getHeight(), 0);
+        });
+    }
+
+    @Test
+    public void asyncLayoutPlacesAndShowsTheChildren() throws Exception {
+        final JFXMasonryPane pane = new JFXMasonryPane();
+        FXTestUtils.runInFX(() -> {
+            pane.setAsyncLayout(true);
+            pane.setCellWidth(10);
+            pane.setCellHeight(10);
+            pane.setHSpacing(0);
+            pane.setVSpacing(0);
+            for (int i = 0; i < 5; i++) {
+                pane.getChildren().add(createBlock(10, 10));
+            }
+            pane.resize(30, 100);
+            pane.layout();
+        });
+        FXTestUtils.waitFor(() -> {
+            pane.layout();
+            return pane.getChildren().get(4).getLayoutY() > 0;
+        }, 10000);
+        FXTestUtils.runInFX(() -> {
+            for (int i = 0; i < 5; i++) {
+                final Region child = (Region) pane.getChildren().get(i);
+                assertEquals(1, child.getOpacity(), 0);
+                assertEquals(i % 3 * 10, child.getLayoutX(), 0);
+                assertEquals(i / 3 * 10, child.getLayoutY(), 0);
+            }
+        });
+    }
+
+    private static Region createBlock(double width, double height) {
+        Region region = new Region();
+        region.setPrefSize(width, height);
+        return region;
+    }
+}
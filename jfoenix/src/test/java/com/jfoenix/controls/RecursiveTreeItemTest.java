@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.FXTestUtils;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.collections.FXCollections;
+import javafx.scene.control.TreeItem;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RecursiveTreeItemTest {
+
+    @BeforeClass
+    public static void startToolkit() throws InterruptedException {
+        FXTestUtils.startToolkit();
+    }
+
+    @Test
+    public void filterCollapsedLazyTreeThenExpand() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            final RecursiveTreeItem<Row> root = createLazyTree();
+            assertFalse(root.isExpanded());
+
+            root.setPredicate(matches("match"));
+            root.setExpanded(true);
+
+            assertEquals(list("a"), names(root.getChildren()));
+            final TreeItem<Row> a = root.getChildren().get(0);
+            assertEquals(list("a1-match"), names(a.getChildren()));
+        });
+        FXTestUtils.waitForFX();
+    }
+
+    @Test
+    public void expandLazyTreeThenFilter() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            final RecursiveTreeItem<Row> root = createLazyTree();
+            root.setExpanded(true);
+            assertEquals(list("a", "b"), names(root.getChildren()));
+
+            root.setPredicate(matches("match"));
+            assertEquals(list("a"), names(root.getChildren()));
+        });
+    }
+
+    @Test
+    public void unmaterializedItemIsLeaf() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            final Row a = new Row("a", new Row("a1"));
+            final RecursiveTreeItem<Row> item = new RecursiveTreeItem<>(a, null, RecursiveTreeObject::getChildren, true);
+            assertFalse(item.isLeaf());
+            a.getChildren().clear();
+            assertTrue(item.isLeaf());
+        });
+    }
+
+    @Test
+    public void filterEvaluatesSequentiallyAndInParallel() throws Exception {
+        for (boolean parallel : new boolean[] {false, true}) {
+            final RecursiveTreeItem<Row> root = createLazyTree();
+            root.setParallelFiltering(parallel);
+            // filter() commits its result on the FX thread
+            root.filter(matches("other"));
+            FXTestUtils.runInFX(() -> {
+                root.setExpanded(true);
+                assertEquals(list("a", "b"), names(root.getChildren()));
+                assertEquals(list("b1-other"), names(root.getChildren().get(1).getChildren()));
+            });
+        }
+    }
+
+    @Test
+    public void failingFilterLeavesTreeUnchanged() throws Exception {
+        final RecursiveTreeItem<Row> root = createLazyTree();
+        root.filter(matches("b"));
+        try {
+            root.filter(item -> {
+                throw new IllegalStateException();
+            });
+            fail();
+        } catch (IllegalStateException expected) {
+            // the tree must still be filtered by the previous predicate
+        }
+        FXTestUtils.runInFX(() -> assertEquals(list("b"), names(root.getChildren())));
+    }
+
+    private static RecursiveTreeItem<Row> createLazyTree() {
+        final Row rootValue = new Row("root",
+            new Row("a", new Row("a1-match"), new Row("a2-other")),
+            new Row("b", new Row("b1-other")));
+        return new RecursiveTreeItem<>(rootValue, null, RecursiveTreeObject::getChildren, true);
+    }
+
+    private static Predicate<TreeItem<Row>> matches(String text) {
+        return item -> item.getValue().name.contains(text);
+    }
+
+    private static List<String> names(List<TreeItem<Row>> items) {
+        final List<String> names = new ArrayList<>();
+        for (TreeItem<Row> item : items) {
+            names.add(item.getValue().name);
+        }
+        return names;
+    }
+
+    private static List<String> list(String... names) {
+        return Arrays.asList(names);
+    }
+
+    private static final class Row extends RecursiveTreeObject<Row> {
+        final String name;
+
+        Row(String name, Row... children) {
+            this.name = name;
+            setChildren(FXCollections.observableArrayList(children));
+        }
+    }
+}
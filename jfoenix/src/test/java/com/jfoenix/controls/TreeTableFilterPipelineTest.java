@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.FXTestUtils;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.scene.control.TreeItem;
+import javafx.util.Duration;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TreeTableFilterPipelineTest {
+
+    private static final List<TreeItem<Row>> ITEMS = Arrays.asList(new TreeItem<>(), new TreeItem<>(), new TreeItem<>());
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @BeforeClass
+    public static void startToolkit() throws InterruptedException {
+        FXTestUtils.startToolkit();
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void stalePassIsAbortedBeforeItsApplied() throws Exception {
+        final RecordingTable table = new RecordingTable();
+        final TreeTableFilterPipeline<Row> pipeline = new TreeTableFilterPipeline<>(table);
+        final CountDownLatch firstPassStarted = new CountDownLatch(1);
+        final CountDownLatch secondPassRequested = new CountDownLatch(1);
+        final AtomicInteger firstPassTests = new AtomicInteger();
+
+        final Predicate<TreeItem<Row>> first = item -> {
+            firstPassTests.incrementAndGet();
+            firstPassStarted.countDown();
+            try {
+                secondPassRequested.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        };
+        final Predicate<TreeItem<Row>> second = item -> false;
+
+        pipeline.filter(first, executor, Duration.ZERO);
+        assertTrue(firstPassStarted.await(10, TimeUnit.SECONDS));
+        pipeline.filter(second, executor, Duration.ZERO);
+        secondPassRequested.countDown();
+
+        FXTestUtils.waitFor(() -> table.appliedCount.get() == 1, 10000);
+        // the first pass is aborted on the item following the new request
+        assertEquals(1, firstPassTests.get());
+        assertEquals(Collections.singletonList(Boolean.FALSE), table.completedResults);
+        assertEquals(1, table.reGroupCount.get());
+        FXTestUtils.waitForFX();
+        assertEquals(1, table.appliedCount.get());
+    }
+
+    @Test
+    public void debouncedRequestsRunTheLatestPredicateOnly() throws Exception {
+        final RecordingTable table = new RecordingTable();
+        final TreeTableFilterPipeline<Row> pipeline = new TreeTableFilterPipeline<>(table);
+        final Duration delay = Duration.millis(200);
+
+        pipeline.filter(item -> true, executor, delay);
+        pipeline.filter(item -> false, executor, delay);
+
+        FXTestUtils.waitFor(() -> table.appliedCount.get() == 1, 10000);
+        Thread.sleep(300);
+        FXTestUtils.waitForFX();
+        assertEquals(1, table.appliedCount.get());
+        assertEquals(1, table.passesCount.get());
+        assertEquals(Collections.singletonList(Boolean.FALSE), table.completedResults);
+    }
+
+    @Test
+    public void nullPredicateClearsTheFilter() throws Exception {
+        final RecordingTable table = new RecordingTable();
+        final TreeTableFilterPipeline<Row> pipeline = new TreeTableFilterPipeline<>(table);
+        pipeline.filter(null, executor, null);
+        FXTestUtils.waitFor(() -> table.appliedCount.get() == 1, 10000);
+        assertEquals(Collections.singletonList(Boolean.TRUE), table.completedResults);
+    }
+
+    /**
+     * records the filter passes, each pass tests the predicate on all items
+     * and completes with the result of the first item
+     */
+    private static final class RecordingTable extends JFXTreeTableView<Row> {
+        final AtomicInteger passesCount = new AtomicInteger();
+        final AtomicInteger reGroupCount = new AtomicInteger();
+        final AtomicInteger appliedCount = new AtomicInteger();
+        final List<Boolean> completedResults = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        void applyFilter(Predicate<TreeItem<Row>> predicate) {
+            passesCount.incrementAndGet();
+            boolean result = true;
+            for (int i = ITEMS.size() - 1; i >= 0; i--) {
+                result = predicate == null || predicate.test(ITEMS.get(i));
+            }
+            completedResults.add(result);
+        }
+
+        @Override
+        public void reGroup() {
+            reGroupCount.incrementAndGet();
+        }
+
+        @Override
+        void filterApplied() {
+            appliedCount.incrementAndGet();
+        }
+    }
+
+    private static final class Row extends RecursiveTreeObject<Row> {
+    }
+}
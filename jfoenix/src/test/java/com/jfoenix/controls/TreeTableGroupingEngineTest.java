@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.FXTestUtils;
+import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TreeTableGroupingEngineTest {
+
+    @BeforeClass
+    public static void startToolkit() throws InterruptedException {
+        FXTestUtils.startToolkit();
+    }
+
+    @Test
+    public void onlyTheLatestGroupOrderIsApplied() throws Exception {
+        final RecordingTable table = new RecordingTable();
+        final TreeTableGroupingEngine<Row> engine = new TreeTableGroupingEngine<>(table);
+        final RecursiveTreeItem<Row> source = createSource();
+        final TreeTableColumn<Row, String> category = createColumn(table, row -> row.category);
+        final TreeTableColumn<Row, String> color = createColumn(table, row -> row.color);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        FXTestUtils.runInFX(() -> {
+            futures.add(engine.group(Collections.singletonList(category), source));
+            futures.add(engine.group(Collections.singletonList(color), source));
+        });
+        // the superseded request completes along with the latest one
+        for (CompletableFuture<Void> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        FXTestUtils.runInFX(() -> {
+            assertEquals(1, table.groupedRootCount.get());
+            assertEquals(list("red", "blue"), groupKeys(table.getRoot()));
+            assertEquals(3, table.getCurrentItemsCount());
+        });
+    }
+
+    @Test
+    public void emptyGroupOrderRestoresTheOriginalRoot() throws Exception {
+        final RecordingTable table = new RecordingTable();
+        final TreeTableGroupingEngine<Row> engine = new TreeTableGroupingEngine<>(table);
+        final RecursiveTreeItem<Row> source = createSource();
+        final TreeTableColumn<Row, String> category = createColumn(table, row -> row.category);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        FXTestUtils.runInFX(() -> {
+            futures.add(engine.group(Collections.singletonList(category), source));
+            futures.add(engine.group(Collections.emptyList(), source));
+        });
+        futures.get(1).get(10, TimeUnit.SECONDS);
+        FXTestUtils.runInFX(() -> {
+            assertEquals(0, table.groupedRootCount.get());
+            assertEquals(1, table.restoredCount.get());
+        });
+    }
+
+    @Test
+    public void sourceChangesAreAppliedIncrementally() throws Exception {
+        final RecordingTable table = new RecordingTable();
+        final TreeTableGroupingEngine<Row> engine = new TreeTableGroupingEngine<>(table);
+        final RecursiveTreeItem<Row> source = createSource();
+        final TreeTableColumn<Row, String> category = createColumn(table, row -> row.category);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        FXTestUtils.runInFX(() -> futures.add(engine.group(Collections.singletonList(category), source)));
+        futures.get(0).get(10, TimeUnit.SECONDS);
+        final TreeItem<Row>[] groupedRoot = new TreeItem[1];
+        FXTestUtils.runInFX(() -> {
+            groupedRoot[0] = table.getRoot();
+            source.getValue().getChildren().add(new Row("c", "green"));
+            source.getValue().getChildren().remove(0);
+        });
+        FXTestUtils.waitFor(() -> table.getCurrentItemsCount() == 3 && groupKeys(groupedRoot[0]).size() == 3, 10000);
+        FXTestUtils.runInFX(() -> {
+            // the grouped root is updated in place
+            assertSame(groupedRoot[0], table.getRoot());
+            assertEquals(1, table.groupedRootCount.get());
+            assertEquals(list("a", "b", "c"), groupKeys(table.getRoot()));
+            assertEquals(1, groupObject(table.getRoot().getChildren().get(0)).getGroupedItemsCount());
+        });
+    }
+
+    @Test
+    public void changesMadeBeforeARegroupAreNotAppliedTwice() throws Exception {
+        final RecordingTable table = new RecordingTable();
+        final TreeTableGroupingEngine<Row> engine = new TreeTableGroupingEngine<>(table);
+        final RecursiveTreeItem<Row> source = createSource();
+        final TreeTableColumn<Row, String> category = createColumn(table, row -> row.category);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        FXTestUtils.runInFX(() -> futures.add(engine.group(Collections.singletonList(category), source)));
+        futures.get(0).get(10, TimeUnit.SECONDS);
+        FXTestUtils.runInFX(() -> {
+            // the change belongs to the previous index, the new index snapshot already has it
+            source.getValue().getChildren().add(new Row("a", "green"));
+            futures.add(engine.group(Collections.singletonList(category), source));
+        });
+        futures.get(1).get(10, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        FXTestUtils.runInFX(() -> {
+            assertEquals(4, table.getCurrentItemsCount());
+            assertEquals(list("a", "b"), groupKeys(table.getRoot()));
+            assertEquals(3, table.getRoot().getChildren().get(0).getChildren().size());
+            assertEquals(3, groupObject(table.getRoot().getChildren().get(0)).getGroupedItemsCount());
+        });
+    }
+
+    @Test
+    public void groupKeysAreComputedByTheGroupByFunction() throws Exception {
+        final RecordingTable table = new RecordingTable() {
+            @SuppressWarnings("deprecation")
+            @Override
+            protected Map groupByFunction(List<TreeItem<Row>> items, TreeTableColumn<Row, ?> column) {
+                final Map<Object, List<TreeItem<Row>>> groups = new HashMap<>();
+                for (TreeItem<Row> item : items) {
+                    groups.computeIfAbsent(String.valueOf(column.getCellData(item)).toUpperCase(), key -> new ArrayList<>()).add(item);
+                }
+                return groups;
+            }
+        };
+        final TreeTableGroupingEngine<Row> engine = new TreeTableGroupingEngine<>(table);
+        final RecursiveTreeItem<Row> source = createSource();
+        final TreeTableColumn<Row, String> category = createColumn(table, row -> row.category);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        FXTestUtils.runInFX(() -> futures.add(engine.group(Collections.singletonList(category), source)));
+        futures.get(0).get(10, TimeUnit.SECONDS);
+        FXTestUtils.runInFX(() -> assertEquals(list("A", "B"), groupKeys(table.getRoot())));
+    }
+
+    private static RecursiveTreeItem<Row> createSource() {
+        final Row root = new Row(null, null);
+        root.getChildren().addAll(new Row("a", "red"), new Row("b", "blue"), new Row("a", "blue"));
+        return new RecursiveTreeItem<>(root, RecursiveTreeObject::getChildren);
+    }
+
+    private static TreeTableColumn<Row, String> createColumn(JFXTreeTableView<Row> table, Function<Row, String> value) {
+        final TreeTableColumn<Row, String> column = new TreeTableColumn<>();
+        column.setCellValueFactory(param -> new ReadOnlyStringWrapper(value.apply(param.getValue().getValue())));
+        // cell values are only read from the columns of a table
+        table.getColumns().add(column);
+        return column;
+    }
+
+    private static List<Object> groupKeys(TreeItem<Row> root) {
+        final List<Object> keys = new ArrayList<>();
+        for (TreeItem<Row> group : root.getChildren()) {
+            keys.add(groupObject(group).getGroupedValue());
+        }
+        return keys;
+    }
+
+    /**
+     * group items values are not instances of the rows type
+     */
+    private static RecursiveTreeObject<?> groupObject(TreeItem<Row> group) {
+        return (RecursiveTreeObject<?>) ((TreeItem<?>) group).getValue();
+    }
+
+    private static List<Object> list(Object... values) {
+        final List<Object> list = new ArrayList<>();
+        Collections.addAll(list, values);
+        return list;
+    }
+
+    private static class RecordingTable extends JFXTreeTableView<Row> {
+        final AtomicInteger groupedRootCount = new AtomicInteger();
+        final AtomicInteger restoredCount = new AtomicInteger();
+
+        @Override
+        void setGroupedRoot(RecursiveTreeItem<Row> groupedRoot, int itemsCount) {
+            groupedRootCount.incrementAndGet();
+            setRoot(groupedRoot);
+            setCurrentItemsCount(itemsCount);
+        }
+
+        @Override
+        void restoreOriginalRoot() {
+            restoredCount.incrementAndGet();
+        }
+    }
+
+    private static final class Row extends RecursiveTreeObject<Row> {
+        final String category;
+        final String color;
+
+        Row(String category, String color) {
+            this.category = category;
+            this.color = color;
+            setChildren(FXCollections.observableArrayList());
+        }
+    }
+}
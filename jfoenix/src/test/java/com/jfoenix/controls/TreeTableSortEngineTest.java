@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.TreeTableSortEngine.SortKeys;
+import javafx.scene.control.TreeTableColumn;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TreeTableSortEngineTest {
+
+    @Test
+    public void sortsLongsBeyondDoublePrecision() {
+        final long big = 1L << 53;
+        final Object[] column = {big + 1, big, big + 3, big + 2};
+        assertArrayEquals(new int[] {1, 0, 3, 2}, sort(false, column));
+    }
+
+    @Test
+    public void sortsDoublesLikeTheirCompareTo() {
+        final Object[] column = {Double.NaN, 1.0, 0.0, -0.0, Double.NEGATIVE_INFINITY};
+        assertArrayEquals(new int[] {4, 3, 2, 1, 0}, sort(false, column));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, sort(true, column));
+    }
+
+    @Test
+    public void sortsNullsFirst() {
+        final Object[] column = {3, null, 1, null};
+        assertArrayEquals(new int[] {1, 3, 2, 0}, sort(false, column));
+    }
+
+    @Test
+    public void keepsEqualRowsOrder() {
+        final Object[] column = {"b", "a", "b", "a", "c", "a"};
+        assertArrayEquals(new int[] {1, 3, 5, 0, 2, 4}, sort(false, column));
+        assertArrayEquals(new int[] {4, 0, 2, 1, 3, 5}, sort(true, column));
+    }
+
+    @Test
+    public void sortsByColumnsInOrder() {
+        final Object[] first = {1, 2, 1, 2};
+        final Object[] second = {"x", "y", "y", "x"};
+        final SortKeys keys = new SortKeys(4, 2);
+        keys.setKeys(0, first, TreeTableColumn.DEFAULT_COMPARATOR, false);
+        keys.setKeys(1, second, TreeTableColumn.DEFAULT_COMPARATOR, true);
+        assertArrayEquals(new int[] {2, 0, 1, 3}, keys.sort());
+    }
+
+    @Test
+    public void usesColumnComparator() {
+        final Comparator<String> byLength = Comparator.comparingInt(String::length);
+        final Object[] column = {"ccc", "a", "bb"};
+        final SortKeys keys = new SortKeys(3, 1);
+        keys.setKeys(0, column, byLength, false);
+        assertArrayEquals(new int[] {1, 2, 0}, keys.sort());
+    }
+
+    @Test
+    public void sortsBigLevelsLikeAStableSort() {
+        final Random random = new Random(42);
+        final int size = 50000;
+        final Object[] first = new Object[size];
+        final Object[] second = new Object[size];
+        final Integer[] expected = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            first[i] = random.nextInt(100);
+            second[i] = (float) random.nextInt(1000);
+            expected[i] = i;
+        }
+        Arrays.sort(expected, Comparator.<Integer, Integer>comparing(i -> (Integer) first[i]).reversed()
+            .thenComparing(i -> (Float) second[i]));
+
+        final SortKeys keys = new SortKeys(size, 2);
+        keys.setKeys(0, first, TreeTableColumn.DEFAULT_COMPARATOR, true);
+        keys.setKeys(1, second, TreeTableColumn.DEFAULT_COMPARATOR, false);
+        assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(), keys.sort());
+    }
+
+    private static int[] sort(boolean descending, Object[] column) {
+        final SortKeys keys = new SortKeys(column.length, 1);
+        keys.setKeys(0, column, TreeTableColumn.DEFAULT_COMPARATOR, descending);
+        return keys.sort();
+    }
+}
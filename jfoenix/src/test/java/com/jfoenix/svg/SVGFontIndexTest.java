@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.svg;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SVGFontIndexTest {
+
+    private static final String FONT = "<svg><defs><font>"
+                                       + "<!-- <glyph glyph-name=\"comment\" d=\"M0 0z\"/> -->"
+                                       + "<glyph glyph-name=\"first\" d=\"M1 1z\"/>"
+                                       + "<glyph unicode=\"&gt;\" glyph-name=\"second\" d=\"M2 2z\"></glyph>"
+                                       + "</font></defs></svg>";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void buildsAndReloadsTheIndex() throws IOException {
+        final Path font = writeFont(FONT);
+        final Path index = folder.getRoot().toPath().resolve("font.idx");
+        assertGlyphs(SVGFontIndex.load(font, index));
+        assertTrue(Files.exists(index));
+        assertGlyphs(SVGFontIndex.load(font, index));
+    }
+
+    @Test
+    public void rebuildsTruncatedIndex() throws IOException {
+        final Path font = writeFont(FONT);
+        final Path index = folder.getRoot().toPath().resolve("font.idx");
+        SVGFontIndex.load(font, index);
+        final byte[] bytes = Files.readAllBytes(index);
+        Files.write(index, Arrays.copyOf(bytes, bytes.length - 6));
+        assertGlyphs(SVGFontIndex.load(font, index));
+        assertEquals(bytes.length, Files.size(index));
+    }
+
+    @Test
+    public void rebuildsIndexWithInvalidCount() throws IOException {
+        final Path font = writeFont(FONT);
+        final Path index = folder.getRoot().toPath().resolve("font.idx");
+        try (DataOutputStream out = writeHeader(font, index)) {
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        assertGlyphs(SVGFontIndex.load(font, index));
+    }
+
+    @Test
+    public void rebuildsIndexWithInvalidOffsets() throws IOException {
+        final Path font = writeFont(FONT);
+        final Path index = folder.getRoot().toPath().resolve("font.idx");
+        try (DataOutputStream out = writeHeader(font, index)) {
+            out.writeInt(1);
+            out.writeUTF("first");
+            out.writeInt(0);
+            out.writeInt((int) Files.size(font) - 2);
+            out.writeInt(100);
+        }
+        assertGlyphs(SVGFontIndex.load(font, index));
+    }
+
+    @Test
+    public void rebuildsIndexWhenTheFontChanges() throws IOException {
+        final Path font = writeFont(FONT);
+        final Path index = folder.getRoot().toPath().resolve("font.idx");
+        SVGFontIndex.load(font, index);
+        Files.write(font, "<svg><glyph glyph-name=\"other\" d=\"M3 3z\"/></svg>".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(font, FileTime.fromMillis(Files.getLastModifiedTime(font).toMillis() + 1000));
+        final SVGFontIndex fontIndex = SVGFontIndex.load(font, index);
+        assertEquals(1, fontIndex.size());
+        assertEquals("other", fontIndex.getName(0));
+        assertEquals("M3 3z", fontIndex.readPath(0));
+    }
+
+    private Path writeFont(String content) throws IOException {
+        return Files.write(folder.getRoot().toPath().resolve("font.svg"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DataOutputStream writeHeader(Path font, Path index) throws IOException {
+        final DataOutputStream out = new DataOutputStream(Files.newOutputStream(index));
+        out.writeInt(0x4A464758);
+        out.writeInt(1);
+        out.writeLong(Files.size(font));
+        out.writeLong(Files.getLastModifiedTime(font).toMillis());
+        return out;
+    }
+
+    private static void assertGlyphs(SVGFontIndex index) {
+        assertEquals(2, index.size());
+        assertEquals("first", index.getName(0));
+        assertEquals("second", index.getName(1));
+        assertEquals(0, index.getGlyphId(0));
+        assertEquals(1, index.getGlyphId(1));
+        assertEquals("M1 1z", index.readPath(0));
+        assertEquals("M2 2z", index.readPath(1));
+    }
+}
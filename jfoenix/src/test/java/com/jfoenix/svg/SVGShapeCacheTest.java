@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.svg;
+
+import com.jfoenix.FXTestUtils;
+import javafx.scene.shape.SVGPath;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SVGShapeCacheTest {
+
+    @BeforeClass
+    public static void startToolkit() throws InterruptedException {
+        FXTestUtils.startToolkit();
+    }
+
+    @Test
+    public void flipsYCoordinates() {
+        assertEquals("M 417.876 -288.669l 23.1 5e-2c .5 -.5 1 -2 3 -4z",
+            SVGShapeCache.flipPath("M417.876 288.669l23.1-5e-2c.5.5 1 2 3 4z"));
+        assertEquals("M 1 -2L 3 4Q 5 6 7 -8", SVGShapeCache.flipPath("M1,2 L3 -4 Q5 -6 7 +8"));
+    }
+
+    @Test
+    public void flipsArcsAndSingleCoordinates() {
+        assertEquals("M 0 -0A 10 20 -30 0 0 10 20H 5V 6z",
+            SVGShapeCache.flipPath("M0,0 A10 20 30 0110 -20 H5 V-6 z"));
+    }
+
+    @Test
+    public void rejectsInvalidPaths() {
+        assertNull(SVGShapeCache.flipPath("M1 2 3 4 Z 5"));
+        assertNull(SVGShapeCache.flipPath("1 2"));
+        assertNull(SVGShapeCache.flipPath("M1 x"));
+        assertNull(SVGShapeCache.flipPath("M0 0 A10 20 30 2 1 10 20"));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedShapes() {
+        final Object first = new Object();
+        final Object second = new Object();
+        final Object third = new Object();
+        final SVGPath shape = createShape();
+        final long shapeSize = 128 + 4 * shape.getContent().length();
+        final SVGShapeCache cache = new SVGShapeCache(2 * shapeSize);
+
+        cache.put(first, false, shape);
+        cache.put(second, false, shape);
+        assertSame(shape, cache.get(first, false));
+        cache.put(third, false, shape);
+        assertNull(cache.get(second, false));
+        assertSame(shape, cache.get(first, false));
+        assertSame(shape, cache.get(third, false));
+        assertEquals(2 * shapeSize, cache.getSize());
+
+        cache.setBudget(shapeSize);
+        assertNull(cache.get(first, false));
+        assertSame(shape, cache.get(third, false));
+
+        cache.remove(third);
+        assertNull(cache.get(third, false));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void cachesFlippedShapesSeparately() {
+        final Object owner = new Object();
+        final SVGPath shape = createShape();
+        final SVGPath flipped = createShape();
+        final SVGShapeCache cache = new SVGShapeCache(Long.MAX_VALUE);
+        cache.put(owner, false, shape);
+        assertNull(cache.get(owner, true));
+        cache.put(owner, true, flipped);
+        assertSame(shape, cache.get(owner, false));
+        assertSame(flipped, cache.get(owner, true));
+        cache.remove(owner);
+        assertNull(cache.get(owner, false));
+        assertNull(cache.get(owner, true));
+        assertEquals(0, cache.getSize());
+    }
+
+    private static SVGPath createShape() {
+        final SVGPath shape = new SVGPath();
+        shape.setContent("M0 0L10 10z");
+        return shape;
+    }
+}
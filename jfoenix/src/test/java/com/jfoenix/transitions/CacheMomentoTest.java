@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import com.jfoenix.FXTestUtils;
+import javafx.scene.CacheHint;
+import javafx.scene.layout.Region;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CacheMomentoTest {
+
+    @BeforeClass
+    public static void startToolkit() throws InterruptedException {
+        FXTestUtils.startToolkit();
+    }
+
+    @Test
+    public void restoresTheNodeAfterTheLastMomento() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            final Region node = createNode();
+            final int cachedNodes = CacheMomento.getCachedNodesCount();
+            final CacheMomento first = new CacheMomento(node);
+            final CacheMomento second = new CacheMomento(node);
+
+            first.cache();
+            second.cache();
+            assertCached(node);
+            assertEquals(cachedNodes + 1, CacheMomento.getCachedNodesCount());
+
+            first.restore();
+            assertCached(node);
+            second.restore();
+            assertRestored(node);
+            assertEquals(cachedNodes, CacheMomento.getCachedNodesCount());
+        });
+    }
+
+    @Test
+    public void repeatedCallsAreCountedOnce() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            final Region node = createNode();
+            final CacheMomento first = new CacheMomento(node);
+            final CacheMomento second = new CacheMomento(node);
+
+            first.cache();
+            first.cache();
+            second.cache();
+            first.restore();
+            first.restore();
+            assertCached(node);
+            second.restore();
+            assertRestored(node);
+            // restoring a momento that isn't caching the node does nothing
+            second.restore();
+            assertRestored(node);
+        });
+    }
+
+    @Test
+    public void cachesTheNodeAgainAfterItsRestored() throws Exception {
+        FXTestUtils.runInFX(() -> {
+            final Region node = createNode();
+            final CacheMomento momento = new CacheMomento(node);
+            momento.cache();
+            momento.restore();
+            // properties changed while the node isn't cached are the ones restored next time
+            node.setCacheHint(CacheHint.QUALITY);
+            momento.cache();
+            assertCached(node);
+            momento.restore();
+            assertEquals(CacheHint.QUALITY, node.getCacheHint());
+        });
+    }
+
+    private static Region createNode() {
+        final Region node = new Region();
+        node.setCache(false);
+        node.setCacheHint(CacheHint.DEFAULT);
+        node.setCacheShape(false);
+        node.setSnapToPixel(false);
+        return node;
+    }
+
+    private static void assertCached(Region node) {
+        assertTrue(node.isCache());
+        assertEquals(CacheHint.SPEED, node.getCacheHint());
+        assertTrue(node.isCacheShape());
+        assertTrue(node.isSnapToPixel());
+    }
+
+    private static void assertRestored(Region node) {
+        assertFalse(node.isCache());
+        assertEquals(CacheHint.DEFAULT, node.getCacheHint());
+        assertFalse(node.isCacheShape());
+        assertFalse(node.isSnapToPixel());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import com.jfoenix.FXTestUtils;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.util.Duration;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class KeyFrameTracksTest {
+
+    @BeforeClass
+    public static void startToolkit() throws InterruptedException {
+        FXTestUtils.startToolkit();
+    }
+
+    @Test
+    public void interpolatesBetweenKeyFrames() {
+        final DoubleProperty value = new SimpleDoubleProperty();
+        final KeyFrameTracks tracks = new KeyFrameTracks(new Timeline(
+            new KeyFrame(Duration.seconds(2), new KeyValue(value, 30, Interpolator.LINEAR)),
+            new KeyFrame(Duration.ZERO, new KeyValue(value, 0, Interpolator.LINEAR)),
+            new KeyFrame(Duration.seconds(1), new KeyValue(value, 10, Interpolator.LINEAR))));
+        tracks.start();
+        assertValue(tracks, value, -1, 0);
+        assertValue(tracks, value, 0.5, 5);
+        assertValue(tracks, value, 1.5, 20);
+        // seeking backwards leaves the cached segment
+        assertValue(tracks, value, 0.25, 2.5);
+        assertValue(tracks, value, 2, 30);
+        assertValue(tracks, value, 3, 30);
+    }
+
+    @Test
+    public void usesTheKeyValuesInterpolators() {
+        final DoubleProperty value = new SimpleDoubleProperty();
+        final KeyFrameTracks tracks = new KeyFrameTracks(new Timeline(
+            new KeyFrame(Duration.ZERO, new KeyValue(value, 0)),
+            new KeyFrame(Duration.seconds(1), new KeyValue(value, 10, Interpolator.EASE_BOTH))));
+        tracks.start();
+        assertValue(tracks, value, 0.25, Interpolator.EASE_BOTH.interpolate(0.0, 10.0, 0.25));
+    }
+
+    @Test
+    public void startsFromTheCurrentValueWithoutAKeyFrameAtZero() {
+        final DoubleProperty value = new SimpleDoubleProperty(4);
+        final KeyFrameTracks tracks = new KeyFrameTracks(new Timeline(
+            new KeyFrame(Duration.seconds(1), new KeyValue(value, 10, Interpolator.LINEAR))));
+        tracks.start();
+        assertValue(tracks, value, 0.5, 7);
+        assertValue(tracks, value, 0, 4);
+        // the start value is captured again on each start
+        value.set(0);
+        tracks.start();
+        assertValue(tracks, value, 0.5, 5);
+    }
+
+    @Test
+    public void lastKeyValueAtTheSameTimeWins() {
+        final DoubleProperty value = new SimpleDoubleProperty();
+        final KeyFrameTracks tracks = new KeyFrameTracks(new Timeline(
+            new KeyFrame(Duration.ZERO, new KeyValue(value, 0)),
+            new KeyFrame(Duration.seconds(1), new KeyValue(value, 10, Interpolator.LINEAR)),
+            new KeyFrame(Duration.seconds(1), new KeyValue(value, 20, Interpolator.LINEAR))));
+        tracks.start();
+        assertValue(tracks, value, 0.5, 10);
+    }
+
+    @Test
+    public void interpolatesObjectValues() {
+        final ObjectProperty<String> value = new SimpleObjectProperty<>("start");
+        final KeyFrameTracks tracks = new KeyFrameTracks(new Timeline(
+            new KeyFrame(Duration.seconds(1), new KeyValue(value, "middle", Interpolator.DISCRETE)),
+            new KeyFrame(Duration.seconds(2), new KeyValue(value, "end", Interpolator.DISCRETE))));
+        tracks.start();
+        tracks.interpolate(0.5);
+        assertEquals("start", value.get());
+        tracks.interpolate(1);
+        assertEquals("middle", value.get());
+        tracks.interpolate(2);
+        assertEquals("end", value.get());
+    }
+
+    private static void assertValue(KeyFrameTracks tracks, DoubleProperty value, double time, double expected) {
+        tracks.interpolate(time);
+        assertEquals(expected, value.get(), 1e-9);
+    }
+}